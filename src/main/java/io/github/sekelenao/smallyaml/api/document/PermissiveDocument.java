@@ -6,14 +6,21 @@ import io.github.sekelenao.smallyaml.api.document.property.SingleValueProperty;
 import io.github.sekelenao.smallyaml.api.exception.document.WrongPropertyTypeException;
 import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
 import io.github.sekelenao.smallyaml.api.mapping.PropertyValueMapper;
+import io.github.sekelenao.smallyaml.internal.collection.Conversion;
+import io.github.sekelenao.smallyaml.internal.collection.PropertyStore;
 import io.github.sekelenao.smallyaml.internal.collection.ValueList;
+import io.github.sekelenao.smallyaml.internal.parsing.ParallelSmallYAMLParser;
+import io.github.sekelenao.smallyaml.internal.parsing.ParsingExceptionFactory;
 import io.github.sekelenao.smallyaml.internal.parsing.SmallYAMLParser;
-import io.github.sekelenao.smallyaml.internal.parsing.booleans.StrictBooleanParser;
 import io.github.sekelenao.smallyaml.internal.parsing.collector.MapParsingCollector;
+import io.github.sekelenao.smallyaml.internal.parsing.collector.ValidatingParsingCollector;
+import io.github.sekelenao.smallyaml.internal.parsing.filter.KeyFilter;
+import io.github.sekelenao.smallyaml.internal.parsing.filter.PredicateKeyFilter;
+import io.github.sekelenao.smallyaml.internal.parsing.filter.PrefixKeyFilter;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +32,12 @@ import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -37,17 +49,26 @@ import java.util.stream.StreamSupport;
  * and iterability over properties.
  * <p>
  * The class is immutable and final, ensuring thread-safety and preventing inheritance.
+ * <p>
+ * Primitive and boolean getters convert a value on their first successful call for a key, and later calls for the
+ * same key and type return the cached conversion without parsing again. Reading the cache never takes a lock.
  *
  * @since 0.1.0
  */
 public final class PermissiveDocument implements Iterable<Property<?>>, Document {
 
-    private final Map<String, Object> properties;
+    private static final int DEFAULT_SEQUENTIAL_THRESHOLD = 10_000;
 
-    private PermissiveDocument(Map<String, Object> properties){
+    private final PropertyStore properties;
+
+    private PermissiveDocument(PropertyStore properties){
         this.properties = properties;
     }
 
+    private PermissiveDocument(Map<String, Object> properties){
+        this(PropertyStore.copyOf(properties));
+    }
+
     /**
      * Creates a new instance of PermissiveDocument by parsing the content provided
      * by the given {@link LineProvider}. The provider must return a non-null stream.
@@ -60,13 +81,165 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      * @since 0.1.0
      */
     public static PermissiveDocument from(LineProvider lineProvider) throws IOException {
+        return parse(lineProvider, KeyFilter.ALL);
+    }
+
+    private static PermissiveDocument parse(LineProvider lineProvider, KeyFilter keyFilter) throws IOException {
         Objects.requireNonNull(lineProvider);
         var collector = new MapParsingCollector();
-        var parser = new SmallYAMLParser();
+        var parser = new SmallYAMLParser(keyFilter);
         parser.parse(lineProvider, collector);
         return new PermissiveDocument(collector.underlyingMapAsView());
     }
 
+    /**
+     * Creates a new instance of PermissiveDocument by parsing the content provided by the given
+     * {@link LineProvider}, keeping only the properties whose key is accepted by the given predicate.
+     * <p>
+     * The whole document is still validated: syntax errors and duplicated properties are reported even for
+     * properties that are not kept. The predicate receives full keys in lower case.
+     *
+     * @param lineProvider the LineProvider, which supplies lines to be parsed, must not be null
+     * @param keyFilter the predicate selecting the keys of the kept properties, must not be null
+     * @return a PermissiveDocument instance containing the selected properties
+     * @throws NullPointerException if {@code lineProvider} or {@code keyFilter} is null
+     * @throws IOException if an I/O error occurs during parsing
+     *
+     * @since 0.2.0
+     */
+    public static PermissiveDocument fromFiltered(LineProvider lineProvider, Predicate<String> keyFilter) throws IOException {
+        Objects.requireNonNull(keyFilter);
+        return parse(lineProvider, new PredicateKeyFilter(keyFilter));
+    }
+
+    /**
+     * Creates a new instance of PermissiveDocument by parsing the content provided by the given
+     * {@link LineProvider}, keeping only the properties located under one of the given key prefixes.
+     * <p>
+     * A prefix selects the property with the same key and every property under it: the prefix {@code db}
+     * selects {@code db} and {@code db.host}, but not {@code dbx}. Prefixes are compared ignoring case.
+     * The values located under keys that cannot contain a selected property are checked without being
+     * extracted, and the whole document is still validated: syntax errors and duplicated properties are
+     * reported even for properties that are not kept.
+     *
+     * @param lineProvider the LineProvider, which supplies lines to be parsed, must not be null
+     * @param prefixes the non-empty key prefixes of the kept properties, must not be null or contain null
+     * @return a PermissiveDocument instance containing the selected properties
+     * @throws NullPointerException if {@code lineProvider}, {@code prefixes} or one of the prefixes is null
+     * @throws IllegalArgumentException if one of the prefixes is empty
+     * @throws IOException if an I/O error occurs during parsing
+     *
+     * @since 0.2.0
+     */
+    public static PermissiveDocument fromPrefixes(LineProvider lineProvider, Collection<String> prefixes) throws IOException {
+        Objects.requireNonNull(lineProvider);
+        return parse(lineProvider, new PrefixKeyFilter(prefixes));
+    }
+
+    /**
+     * Checks the content provided by the given {@link LineProvider} as {@link #from(LineProvider)} would,
+     * without building the document.
+     * <p>
+     * Syntax, indentation and duplicated properties are checked, and the same exceptions are thrown, but values
+     * are never extracted and properties are not stored. Duplicates are detected by comparing 64-bit hashes of the
+     * keys instead of the keys, so, unlike {@code from}, a valid document is rejected in the very unlikely case where
+     * two of its keys have the same hash.
+     *
+     * @param lineProvider the LineProvider, which supplies lines to be checked, must not be null
+     * @return a summary of the checked document
+     * @throws NullPointerException if {@code lineProvider} is null
+     * @throws IOException if an I/O error occurs during parsing
+     *
+     * @since 0.2.0
+     */
+    public static ValidationResult validate(LineProvider lineProvider) throws IOException {
+        Objects.requireNonNull(lineProvider);
+        var collector = new ValidatingParsingCollector();
+        var parser = new SmallYAMLParser(KeyFilter.ALL, false);
+        parser.parse(lineProvider, collector);
+        return new ValidationResult(
+            parser.lineNumber(), collector.amountOfSingleValueProperties(), collector.amountOfMultipleValuesProperties()
+        );
+    }
+
+    /**
+     * Checks the content provided by the given {@link LineProvider} as {@link #validate(LineProvider)} would,
+     * but reports every error instead of throwing the first one.
+     * <p>
+     * Each error is reported with its line number, counting comments and blank lines, and the column where
+     * the faulty key, value or indentation starts. After an error, the lines that belong to the faulty line, which are the deeper ones and
+     * the list values that follow it, are still checked on their own but are not attached to any key, so that a
+     * single mistake does not produce an error on each line of its block. A duplicated property is not a faulty line,
+     * only the list values of the rejected key are skipped.
+     *
+     * @param lineProvider the LineProvider, which supplies lines to be checked, must not be null
+     * @return a report listing the errors of the document, in the order of their lines
+     * @throws NullPointerException if {@code lineProvider} is null
+     * @throws IOException if an I/O error occurs during parsing
+     *
+     * @since 0.2.0
+     */
+    public static ValidationReport validateAll(LineProvider lineProvider) throws IOException {
+        Objects.requireNonNull(lineProvider);
+        var errors = new ArrayList<ValidationError>();
+        // Exceptions are caught by the parser, so their stack traces would never be read
+        var exceptionFactory = ParsingExceptionFactory.WITHOUT_STACK_TRACES;
+        var parser = new SmallYAMLParser(KeyFilter.ALL, false, exceptionFactory);
+        parser.parseCollectingErrors(lineProvider, new ValidatingParsingCollector(exceptionFactory), errors::add);
+        return new ValidationReport(parser.lineNumber(), errors);
+    }
+
+    /**
+     * Creates a new instance of PermissiveDocument by parsing the content provided by the given
+     * {@link LineProvider} in parallel, on the given {@link ForkJoinPool}.
+     * <p>
+     * While the lines are read, the document is cut at keys with no indentation into parts of at least
+     * {@code sequentialThreshold} lines, and each part is parsed on the pool as soon as it is cut. Documents with
+     * fewer lines than {@code sequentialThreshold} are parsed on the calling thread. Only the text of the parts
+     * that are not parsed yet is kept in memory.
+     * <p>
+     * The resulting document is equal to the one returned by {@link #from(LineProvider)}, and duplicated
+     * properties are detected across parts, but its properties may be iterated in a different order. When a
+     * document contains several errors, the reported one may differ from the one reported by
+     * {@link #from(LineProvider)}.
+     *
+     * @param lineProvider the LineProvider, which supplies lines to be parsed, must not be null
+     * @param pool the pool running the parsing tasks, must not be null
+     * @param sequentialThreshold the amount of lines below which the document is parsed sequentially, which is
+     *                            also the minimal amount of lines of a part, must be strictly positive
+     * @return a PermissiveDocument instance containing the parsed properties
+     * @throws NullPointerException if {@code lineProvider} or {@code pool} is null
+     * @throws IllegalArgumentException if {@code sequentialThreshold} is not strictly positive
+     * @throws IOException if an I/O error occurs during parsing
+     *
+     * @since 0.2.0
+     */
+    public static PermissiveDocument fromInParallel(
+        LineProvider lineProvider, ForkJoinPool pool, int sequentialThreshold
+    ) throws IOException {
+        Objects.requireNonNull(lineProvider);
+        var parser = new ParallelSmallYAMLParser(pool, sequentialThreshold);
+        return new PermissiveDocument(parser.parse(lineProvider));
+    }
+
+    /**
+     * Creates a new instance of PermissiveDocument by parsing the content provided by the given
+     * {@link LineProvider} in parallel, on the {@link ForkJoinPool#commonPool() common pool}.
+     * <p>
+     * This is a convenience overload of {@link #fromInParallel(LineProvider, ForkJoinPool, int)}, which parses
+     * documents of less than 10,000 lines sequentially.
+     *
+     * @param lineProvider the LineProvider, which supplies lines to be parsed, must not be null
+     * @return a PermissiveDocument instance containing the parsed properties
+     * @throws NullPointerException if {@code lineProvider} is null
+     * @throws IOException if an I/O error occurs during parsing
+     *
+     * @since 0.2.0
+     */
+    public static PermissiveDocument fromInParallel(LineProvider lineProvider) throws IOException {
+        return fromInParallel(lineProvider, ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
     /**
      * Creates and returns an empty instance of {@code PermissiveDocument}.
      * The returned document does not contain any properties.
@@ -76,7 +249,7 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      * @since 0.1.0
      */
     public static PermissiveDocument empty(){
-        return new PermissiveDocument(Collections.emptyMap());
+        return new PermissiveDocument(PropertyStore.EMPTY);
     }
 
     /**
@@ -109,10 +282,10 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      */
     public Property.Type typeOf(String key){
         Objects.requireNonNull(key);
-        if(!properties.containsKey(key)){
+        var value = properties.get(key);
+        if(value == null){
             throw new NoSuchElementException();
         }
-        var value = properties.get(key);
         return switch (value){
             case String ignored -> Property.Type.SINGLE;
             case ValueList ignored -> Property.Type.MULTIPLE;
@@ -189,14 +362,8 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      */
     public boolean getSingleBooleanOrDefault(String key, boolean defaultValue){
         Objects.requireNonNull(key);
-        var value = properties.get(key);
-        if(value == null){
-            return defaultValue;
-        }
-        if(value instanceof String valueAsString){
-            return StrictBooleanParser.parse(valueAsString);
-        }
-        throw WrongPropertyTypeException.withExpected(Property.Type.SINGLE);
+        var value = properties.getConverted(key, Conversion.SINGLE_BOOLEAN);
+        return value == null ? defaultValue : value;
     }
 
     /**
@@ -218,14 +385,11 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      */
     public boolean getSingleBooleanOrThrow(String key){
         Objects.requireNonNull(key);
-        var value = properties.get(key);
+        var value = properties.getConverted(key, Conversion.SINGLE_BOOLEAN);
         if(value == null){
             throw new NoSuchElementException();
         }
-        if(value instanceof String valueAsString){
-            return StrictBooleanParser.parse(valueAsString);
-        }
-        throw WrongPropertyTypeException.withExpected(Property.Type.SINGLE);
+        return value;
     }
 
     /**
@@ -244,19 +408,14 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      */
     public OptionalInt getSingleInt(String key){
         Objects.requireNonNull(key);
-        var value = properties.get(key);
-        if(value == null){
-            return OptionalInt.empty();
-        }
-        if (value instanceof String valueAsString) {
-            return OptionalInt.of(Integer.parseInt(valueAsString));
-        }
-        throw WrongPropertyTypeException.withExpected(Property.Type.SINGLE);
+        var value = properties.getConverted(key, Conversion.SINGLE_INT);
+        return value == null ? OptionalInt.empty() : value;
     }
 
     /**
      * Retrieves the value associated with the specified key as an array of integers, if available.
      * If the key does not exist or the associated value is null, the method returns an empty {@code Optional}.
+     * The returned array is a copy, which can be modified without affecting the document.
      * <p>
      * If the value is of an incompatible type, an exception is thrown.
      *
@@ -269,13 +428,36 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      * @since 0.1.0
      */
     public Optional<int[]> getMultipleInts(String key){
+        Objects.requireNonNull(key);
+        var values = properties.getConverted(key, Conversion.MULTIPLE_INTS);
+        return values == null ? Optional.empty() : Optional.of(values.clone());
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a stream of integers, if available.
+     * If the key does not exist or the associated value is null, the method returns an empty {@code Optional}.
+     * <p>
+     * Values are parsed one at a time while the stream is consumed, without boxing them or building an array,
+     * and the stream can be split for parallel processing. Since parsing is lazy, a value that cannot be parsed
+     * is only reported by the terminal operation of the stream.
+     * <p>
+     * If the value is of an incompatible type, an exception is thrown.
+     *
+     * @param key the key of the property to retrieve; must not be null
+     * @return an {@code Optional} containing the stream of integers if present and valid; otherwise an empty {@code Optional}
+     * @throws NullPointerException if the key is null
+     * @throws WrongPropertyTypeException if the value associated with the key is not a list of strings
+     *
+     * @since 0.2.0
+     */
+    public Optional<IntStream> getMultipleIntStream(String key){
         Objects.requireNonNull(key);
         var value = properties.get(key);
         if(value == null){
             return Optional.empty();
         }
         if(value instanceof ValueList valueList){
-            return Optional.of(valueList.asArrayOfInts());
+            return Optional.of(valueList.intStream());
         }
         throw WrongPropertyTypeException.withExpected(Property.Type.MULTIPLE);
     }
@@ -296,19 +478,14 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      */
     public OptionalLong getSingleLong(String key){
         Objects.requireNonNull(key);
-        var value = properties.get(key);
-        if(value == null){
-            return OptionalLong.empty();
-        }
-        if(value instanceof String valueAsString){
-            return OptionalLong.of(Long.parseLong(valueAsString));
-        }
-        throw WrongPropertyTypeException.withExpected(Property.Type.SINGLE);
+        var value = properties.getConverted(key, Conversion.SINGLE_LONG);
+        return value == null ? OptionalLong.empty() : value;
     }
 
     /**
      * Retrieves the value associated with the specified key as an array of longs, if available.
      * If the key does not exist or the associated value is null, the method returns an empty {@code Optional}.
+     * The returned array is a copy, which can be modified without affecting the document.
      * <p>
      * If the value is of an incompatible type, an exception is thrown.
      *
@@ -321,13 +498,36 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      * @since 0.1.0
      */
     public Optional<long[]> getMultipleLongs(String key){
+        Objects.requireNonNull(key);
+        var values = properties.getConverted(key, Conversion.MULTIPLE_LONGS);
+        return values == null ? Optional.empty() : Optional.of(values.clone());
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a stream of longs, if available.
+     * If the key does not exist or the associated value is null, the method returns an empty {@code Optional}.
+     * <p>
+     * Values are parsed one at a time while the stream is consumed, without boxing them or building an array,
+     * and the stream can be split for parallel processing. Since parsing is lazy, a value that cannot be parsed
+     * is only reported by the terminal operation of the stream.
+     * <p>
+     * If the value is of an incompatible type, an exception is thrown.
+     *
+     * @param key the key of the property to retrieve; must not be null
+     * @return an {@code Optional} containing the stream of longs if present and valid; otherwise an empty {@code Optional}
+     * @throws NullPointerException if the key is null
+     * @throws WrongPropertyTypeException if the value associated with the key is not a list of strings
+     *
+     * @since 0.2.0
+     */
+    public Optional<LongStream> getMultipleLongStream(String key){
         Objects.requireNonNull(key);
         var value = properties.get(key);
         if(value == null){
             return Optional.empty();
         }
         if(value instanceof ValueList valueList){
-            return Optional.of(valueList.asArrayOfLongs());
+            return Optional.of(valueList.longStream());
         }
         throw WrongPropertyTypeException.withExpected(Property.Type.MULTIPLE);
     }
@@ -348,19 +548,14 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      */
     public OptionalDouble getSingleDouble(String key){
         Objects.requireNonNull(key);
-        var value = properties.get(key);
-        if(value == null){
-            return OptionalDouble.empty();
-        }
-        if(value instanceof String valueAsString){
-            return OptionalDouble.of(Double.parseDouble(valueAsString));
-        }
-        throw WrongPropertyTypeException.withExpected(Property.Type.SINGLE);
+        var value = properties.getConverted(key, Conversion.SINGLE_DOUBLE);
+        return value == null ? OptionalDouble.empty() : value;
     }
 
     /**
      * Retrieves the value associated with the specified key as an array of doubles, if available.
      * If the key does not exist or the associated value is null, the method returns an empty {@code Optional}.
+     * The returned array is a copy, which can be modified without affecting the document.
      * <p>
      * If the value is of an incompatible type, an exception is thrown.
      *
@@ -373,13 +568,36 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      * @since 0.1.0
      */
     public Optional<double[]> getMultipleDoubles(String key){
+        Objects.requireNonNull(key);
+        var values = properties.getConverted(key, Conversion.MULTIPLE_DOUBLES);
+        return values == null ? Optional.empty() : Optional.of(values.clone());
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a stream of doubles, if available.
+     * If the key does not exist or the associated value is null, the method returns an empty {@code Optional}.
+     * <p>
+     * Values are parsed one at a time while the stream is consumed, without boxing them or building an array,
+     * and the stream can be split for parallel processing. Since parsing is lazy, a value that cannot be parsed
+     * is only reported by the terminal operation of the stream.
+     * <p>
+     * If the value is of an incompatible type, an exception is thrown.
+     *
+     * @param key the key of the property to retrieve; must not be null
+     * @return an {@code Optional} containing the stream of doubles if present and valid; otherwise an empty {@code Optional}
+     * @throws NullPointerException if the key is null
+     * @throws WrongPropertyTypeException if the value associated with the key is not a list of strings
+     *
+     * @since 0.2.0
+     */
+    public Optional<DoubleStream> getMultipleDoubleStream(String key){
         Objects.requireNonNull(key);
         var value = properties.get(key);
         if(value == null){
             return Optional.empty();
         }
         if(value instanceof ValueList valueList){
-            return Optional.of(valueList.asArrayOfDoubles());
+            return Optional.of(valueList.doubleStream());
         }
         throw WrongPropertyTypeException.withExpected(Property.Type.MULTIPLE);
     }
@@ -449,6 +667,9 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      * <p>
      * Note: If a subkey does not have any child property with a value, it is not considered
      * to exist and will not be included in the returned set.
+     * <p>
+     * The keys of the document are sorted on the first call, then each call only visits one key per subkey,
+     * so its cost depends on the size of the result rather than on the size of the document.
      *
      * @param key the parent key for which immediate subkeys are to be retrieved; must not be null
      * @return an unmodifiable set of subkeys that are immediate children of the specified key
@@ -458,18 +679,52 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      */
     public Set<String> subKeysOf(String key){
         Objects.requireNonNull(key);
-        var expectedStart = key + ".";
-        var expectedSize = expectedStart.length();
-        var setOfSubkeys = new HashSet<String>();
-        for(var currentKey : properties.keySet()){
-            if(currentKey.length() >= expectedSize && currentKey.startsWith(expectedStart)){
-                var nextDotIndex = currentKey.indexOf(".", expectedSize);
-                if(nextDotIndex != -1){
-                    setOfSubkeys.add(currentKey.substring(0, nextDotIndex));
-                }
-            }
+        return properties.subKeysOf(key);
+    }
+
+    /**
+     * Returns a view of the properties located under the given key prefix, whose keys are relative to the prefix.
+     * <p>
+     * For a document containing {@code services.payment.host}, the view returned for {@code services.payment}
+     * contains the property {@code host}. The property whose key is the prefix itself is not part of the view.
+     * The view shares the storage of this document: creating it costs a binary search on the keys, sorted on the
+     * first call, and its lookups never build the full keys. It can be iterated, streamed, and scoped again, and
+     * its properties are iterated in key order.
+     *
+     * @param prefix the key prefix of the properties of the view; must not be null or empty
+     * @return a document containing the properties under the prefix, which is empty if there is none
+     * @throws NullPointerException if the prefix is null
+     * @throws IllegalArgumentException if the prefix is empty
+     *
+     * @since 0.2.0
+     */
+    public PermissiveDocument subDocument(String prefix){
+        Objects.requireNonNull(prefix);
+        if(prefix.isEmpty()){
+            throw new IllegalArgumentException("Prefix must not be empty");
         }
-        return Collections.unmodifiableSet(setOfSubkeys);
+        return new PermissiveDocument(properties.scopedTo(prefix));
+    }
+
+    /**
+     * Returns a document holding the same properties, whose lists of numbers are stored as primitive arrays.
+     * <p>
+     * A list is packed when all its values are integers of at most 18 digits, or all decimals, written as
+     * {@link Long#toString(long)} or {@link Double#toString(double)} would write them, such as {@code 42} or
+     * {@code 0.5} but not {@code 007} or {@code 1.50}, so that its strings can be rebuilt exactly. Packed lists
+     * drop their strings, and the array and stream getters of numbers read them without parsing. Their strings
+     * are rebuilt on the first call of a getter returning strings.
+     * <p>
+     * Packing checks and parses every value of every list, so it only pays off for documents holding large lists
+     * of numbers that are read several times. Documents are never packed unless this method is called. The keys
+     * are shared with this document, which is left unchanged.
+     *
+     * @return a document equal to this one, whose lists of numbers are packed
+     *
+     * @since 0.2.0
+     */
+    public PermissiveDocument packed(){
+        return new PermissiveDocument(properties.packed());
     }
 
     /**
@@ -486,11 +741,11 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
     public Iterator<Property<?>> iterator() {
         return new Iterator<>() {
 
-            private final Iterator<Map.Entry<String, Object>> iterator = properties.entrySet().iterator();
+            private int index;
 
             @Override
             public boolean hasNext() {
-                return iterator.hasNext();
+                return index < properties.size();
             }
 
             @Override
@@ -498,55 +753,61 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
                 if (!hasNext()){
                     throw new NoSuchElementException();
                 }
-                var current = iterator.next();
-                return switch (current.getValue()){
-                    case String value -> new SingleValueProperty(current.getKey(), value);
-                    case ValueList valueList -> new MultipleValuesProperty(current.getKey(), valueList.asListView());
-                    default -> throw new IllegalStateException("Unexpected value: " + current.getValue());
-                };
+                return propertyAt(index++);
             }
 
         };
     }
 
-    private static final class PropertySpliterator implements Spliterator<Property<?>> {
+    private Property<?> propertyAt(int index){
+        var key = properties.keyAt(index);
+        return switch (properties.valueAt(index)){
+            case String value -> new SingleValueProperty(key, value);
+            case ValueList valueList -> new MultipleValuesProperty(key, valueList.asListView());
+            default -> throw new IllegalStateException("Unexpected value: " + properties.valueAt(index));
+        };
+    }
+
+    private final class PropertySpliterator implements Spliterator<Property<?>> {
 
-        private final Spliterator<Map.Entry<String, Object>> wrappedSpliterator;
+        private int index;
 
-        PropertySpliterator(Spliterator<Map.Entry<String, Object>> wrappedSpliterator) {
-            this.wrappedSpliterator = Objects.requireNonNull(wrappedSpliterator);
+        private final int end;
+
+        PropertySpliterator(int start, int end) {
+            this.index = start;
+            this.end = end;
         }
 
         @Override
         public boolean tryAdvance(Consumer<? super Property<?>> action) {
             Objects.requireNonNull(action);
-            return wrappedSpliterator.tryAdvance(entry -> {
-                Property<?> property = switch (entry.getValue()) {
-                    case String value -> new SingleValueProperty(entry.getKey(), value);
-                    case ValueList valueList -> new MultipleValuesProperty(entry.getKey(), valueList.asListView());
-                    default -> throw new IllegalStateException("Unexpected value: " + entry.getValue());
-                };
-                action.accept(property);
-            });
+            if(index < end){
+                action.accept(propertyAt(index++));
+                return true;
+            }
+            return false;
         }
 
         @Override
         public Spliterator<Property<?>> trySplit() {
-            var splitResult = wrappedSpliterator.trySplit();
-            if (splitResult != null) {
-                return new PropertySpliterator(splitResult);
+            var middle = (index + end) >>> 1;
+            if(middle == index){
+                return null;
             }
-            return null;
+            var spliterator = new PropertySpliterator(index, middle);
+            index = middle;
+            return spliterator;
         }
 
         @Override
         public long estimateSize() {
-            return wrappedSpliterator.estimateSize();
+            return end - index;
         }
 
         @Override
         public int characteristics() {
-            return wrappedSpliterator.characteristics() | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE;
         }
 
     }
@@ -560,7 +821,7 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
      */
     @Override
     public Spliterator<Property<?>> spliterator() {
-        return new PropertySpliterator(properties.entrySet().spliterator());
+        return new PropertySpliterator(0, properties.size());
     }
 
     /**
@@ -594,7 +855,6 @@ public final class PermissiveDocument implements Iterable<Property<?>>, Document
     @Override
     public boolean equals(Object other) {
         return other instanceof PermissiveDocument otherDocument
-            && properties.size() == otherDocument.properties.size()
             && properties.equals(otherDocument.properties);
     }
 
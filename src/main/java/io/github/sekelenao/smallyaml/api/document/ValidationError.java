@@ -0,0 +1,40 @@
+package io.github.sekelenao.smallyaml.api.document;
+
+import io.github.sekelenao.smallyaml.api.exception.ErrorKind;
+import io.github.sekelenao.smallyaml.internal.util.Assertions;
+
+import java.util.Objects;
+
+/**
+ * A record that describes one of the errors reported by {@link PermissiveDocument#validateAll}.
+ *
+ * @param lineNumber the strictly positive number of the faulty line
+ * @param column     the strictly positive column where the faulty key, value or indentation starts
+ * @param kind       the kind of the error
+ * @param message    the message of the exception {@link PermissiveDocument#from} would have thrown for this error
+ *
+ * @since 0.2.0
+ */
+public record ValidationError(long lineNumber, int column, ErrorKind kind, String message) {
+
+    /**
+     * Constructs a {@code ValidationError} instance, ensuring that the kind and message are non-null and the
+     * position is valid.
+     *
+     * @param lineNumber the strictly positive number of the faulty line
+     * @param column     the strictly positive column where the faulty key, value or indentation starts
+     * @param kind       the non-null kind of the error
+     * @param message    the non-null message describing the error
+     * @throws NullPointerException if {@code kind} or {@code message} is null
+     * @throws IllegalArgumentException if {@code lineNumber} or {@code column} is not strictly positive
+     *
+     * @since 0.2.0
+     */
+    public ValidationError {
+        Assertions.isStrictlyPositive(lineNumber);
+        Assertions.isStrictlyPositive(column);
+        Objects.requireNonNull(kind);
+        Objects.requireNonNull(message);
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.github.sekelenao.smallyaml.api.document;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A record that lists every error found by {@link PermissiveDocument#validateAll}.
+ *
+ * @param amountOfLines the amount of lines of the document, including comments and blank lines
+ * @param errors        the errors of the document, in the order of their lines
+ *
+ * @since 0.2.0
+ */
+public record ValidationReport(long amountOfLines, List<ValidationError> errors) {
+
+    /**
+     * Constructs a {@code ValidationReport} instance, keeping an unmodifiable copy of the errors.
+     *
+     * @param amountOfLines the amount of lines of the document
+     * @param errors        the non-null list of errors, without null element
+     * @throws NullPointerException if {@code errors} or one of its elements is null
+     * @throws IllegalArgumentException if {@code amountOfLines} is negative
+     *
+     * @since 0.2.0
+     */
+    public ValidationReport {
+        if(amountOfLines < 0){
+            throw new IllegalArgumentException("Amount of lines must be positive or zero");
+        }
+        Objects.requireNonNull(errors);
+        errors = List.copyOf(errors);
+    }
+
+    /**
+     * Indicates whether the document is valid.
+     *
+     * @return {@code true} if no error was found; {@code false} otherwise
+     *
+     * @since 0.2.0
+     */
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+}
@@ -0,0 +1,43 @@
+package io.github.sekelenao.smallyaml.api.document;
+
+/**
+ * A record that summarizes a document checked by {@link PermissiveDocument#validate}.
+ *
+ * @param amountOfLines                    the amount of lines of the document, including comments and blank lines
+ * @param amountOfSingleValueProperties    the amount of properties holding a single value
+ * @param amountOfMultipleValuesProperties the amount of properties holding a list of values
+ *
+ * @since 0.2.0
+ */
+public record ValidationResult(
+    long amountOfLines, int amountOfSingleValueProperties, int amountOfMultipleValuesProperties
+) {
+
+    /**
+     * Constructs a {@code ValidationResult} instance, ensuring that all amounts are positive or zero.
+     *
+     * @param amountOfLines                    the amount of lines of the document
+     * @param amountOfSingleValueProperties    the amount of properties holding a single value
+     * @param amountOfMultipleValuesProperties the amount of properties holding a list of values
+     * @throws IllegalArgumentException if one of the amounts is negative
+     *
+     * @since 0.2.0
+     */
+    public ValidationResult {
+        if(amountOfLines < 0 || amountOfSingleValueProperties < 0 || amountOfMultipleValuesProperties < 0){
+            throw new IllegalArgumentException("Amounts must be positive or zero");
+        }
+    }
+
+    /**
+     * Retrieves the amount of properties of the document.
+     *
+     * @return the sum of the single value and multiple values properties
+     *
+     * @since 0.2.0
+     */
+    public int amountOfProperties() {
+        return amountOfSingleValueProperties + amountOfMultipleValuesProperties;
+    }
+
+}
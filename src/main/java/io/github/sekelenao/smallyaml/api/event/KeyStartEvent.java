@@ -0,0 +1,42 @@
+package io.github.sekelenao.smallyaml.api.event;
+
+import io.github.sekelenao.smallyaml.internal.util.Assertions;
+
+import java.util.Objects;
+
+/**
+ * A record that represents the start of a key without value. Its children or list items are reported by the
+ * following events. Implements the {@code ParsingEvent} interface.
+ *
+ * @since 0.2.0
+ */
+public record KeyStartEvent(String key, long lineNumber) implements ParsingEvent {
+
+    /**
+     * Constructs a {@code KeyStartEvent} instance, ensuring that the key is non-null and the line number is valid.
+     *
+     * @param key        a non-null string representing the full key path
+     * @param lineNumber the strictly positive number of the line of the key
+     * @throws NullPointerException if {@code key} is null
+     * @throws IllegalArgumentException if {@code lineNumber} is not strictly positive
+     *
+     * @since 0.2.0
+     */
+    public KeyStartEvent {
+        Objects.requireNonNull(key);
+        Assertions.isStrictlyPositive(lineNumber);
+    }
+
+    /**
+     * Retrieves the type of the event.
+     *
+     * @return {@link Type#KEY_START}
+     *
+     * @since 0.2.0
+     */
+    @Override
+    public Type type() {
+        return Type.KEY_START;
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.github.sekelenao.smallyaml.api.event;
+
+import io.github.sekelenao.smallyaml.internal.util.Assertions;
+
+import java.util.Objects;
+
+/**
+ * A record that represents a value of the list attached to a key. Implements the {@code ParsingEvent} interface.
+ *
+ * @since 0.2.0
+ */
+public record ListItemEvent(String key, String value, boolean isFirst, long lineNumber) implements ParsingEvent {
+
+    /**
+     * Constructs a {@code ListItemEvent} instance, ensuring that the key and value are non-null and the line
+     * number is valid.
+     *
+     * @param key        a non-null string representing the full key path of the list
+     * @param value      a non-null string representing the value of the item
+     * @param isFirst    whether the item is the first one of its list
+     * @param lineNumber the strictly positive number of the line of the item
+     * @throws NullPointerException if {@code key} or {@code value} is null
+     * @throws IllegalArgumentException if {@code lineNumber} is not strictly positive
+     *
+     * @since 0.2.0
+     */
+    public ListItemEvent {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Assertions.isStrictlyPositive(lineNumber);
+    }
+
+    /**
+     * Retrieves the type of the event.
+     *
+     * @return {@link Type#LIST_ITEM}
+     *
+     * @since 0.2.0
+     */
+    @Override
+    public Type type() {
+        return Type.LIST_ITEM;
+    }
+
+}
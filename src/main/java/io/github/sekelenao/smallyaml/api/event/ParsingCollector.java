@@ -0,0 +1,81 @@
+package io.github.sekelenao.smallyaml.api.event;
+
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.internal.parsing.SmallYAMLParser;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Receives the content of a SmallYAML document while it is parsed, in the order of its lines.
+ * <p>
+ * Implementations can store the values straight into their own structures, such as a primitive map,
+ * a database batch or a metrics registry, without building a whole document first. Collectors are given
+ * to {@link #collect(LineProvider, ParsingCollector)}.
+ * <p>
+ * Notes:
+ * - Keys are full key paths, parts being separated by dots.
+ * - Duplicated keys are not detected by the parser; a collector needing unique keys must check them itself.
+ * - An exception thrown by a callback stops the parsing and is propagated to the caller.
+ *
+ * @since 0.2.0
+ */
+public interface ParsingCollector {
+
+    /**
+     * Parses the lines of the given {@link LineProvider} and passes their content to the given collector.
+     * <p>
+     * The provider is not closed by this method.
+     *
+     * @param lineProvider the non-null line provider to read from
+     * @param collector the non-null collector receiving the content of the document
+     * @param <C> the type of the collector
+     * @return the given collector, once every line has been parsed
+     * @throws NullPointerException if {@code lineProvider} or {@code collector} is null
+     * @throws IOException if an I/O error occurs while reading the lines
+     * @throws io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException if a line is malformed
+     *
+     * @since 0.2.0
+     */
+    static <C extends ParsingCollector> C collect(LineProvider lineProvider, C collector) throws IOException {
+        Objects.requireNonNull(lineProvider);
+        Objects.requireNonNull(collector);
+        new SmallYAMLParser().parse(lineProvider, collector);
+        return collector;
+    }
+
+    /**
+     * Receives a key without value, whose children or list values follow.
+     * <p>
+     * By default, this method does nothing.
+     *
+     * @param key the non-null full key path
+     *
+     * @since 0.2.0
+     */
+    default void collectKey(String key) {
+        /* By default, keys without value are not collected */
+    }
+
+    /**
+     * Receives a key with a single value.
+     *
+     * @param key the non-null full key path
+     * @param value the non-null value of the key
+     *
+     * @since 0.2.0
+     */
+    void collectSingleValue(String key, String value);
+
+    /**
+     * Receives a value of the list attached to a key.
+     *
+     * @param key the non-null full key path of the list
+     * @param value the non-null value of the item
+     * @param isNewList {@code true} for the first value of the list; {@code false} for the following ones
+     *
+     * @since 0.2.0
+     */
+    void collectListValue(String key, String value, boolean isNewList);
+
+}
@@ -0,0 +1,52 @@
+package io.github.sekelenao.smallyaml.api.event;
+
+/**
+ * Represents an event produced while reading a SmallYAML document with a {@link ParsingEventReader}.
+ * <p>
+ * This interface is sealed and only permits implementations explicitly defined as {@code KeyStartEvent},
+ * {@code ScalarEvent} and {@code ListItemEvent}.
+ *
+ * @since 0.2.0
+ */
+public sealed interface ParsingEvent permits KeyStartEvent, ScalarEvent, ListItemEvent {
+
+    /**
+     * Represents the type of event.
+     * <p>
+     * Enum constants:
+     * - KEY_START: A key without value starts, its children or list items follow.
+     * - SCALAR: A key with a single value.
+     * - LIST_ITEM: A value of the list attached to a key.
+     *
+     * @since 0.2.0
+     */
+    enum Type { KEY_START, SCALAR, LIST_ITEM }
+
+    /**
+     * Retrieves the type of the event.
+     *
+     * @return the type of the event; never null.
+     *
+     * @since 0.2.0
+     */
+    Type type();
+
+    /**
+     * Retrieves the full key path of the event, parts being separated by dots.
+     *
+     * @return a string representing the full key path; never null.
+     *
+     * @since 0.2.0
+     */
+    String key();
+
+    /**
+     * Retrieves the number of the line that produced the event, starting at 1.
+     *
+     * @return the line number of the event; always strictly positive.
+     *
+     * @since 0.2.0
+     */
+    long lineNumber();
+
+}
@@ -0,0 +1,124 @@
+package io.github.sekelenao.smallyaml.api.event;
+
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.internal.parsing.SmallYAMLParser;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Reads a SmallYAML document as a sequence of {@link ParsingEvent}, one line at a time.
+ * <p>
+ * Unlike {@link io.github.sekelenao.smallyaml.api.document.PermissiveDocument}, the reader does not keep the
+ * properties it has already read: it only holds the keys enclosing the current line, so its memory usage
+ * depends on the depth of the document and not on its size. For the same reason, a key that is defined twice
+ * is not reported as a {@link io.github.sekelenao.smallyaml.api.exception.document.DuplicatedPropertyException},
+ * both definitions being returned as events.
+ * <p>
+ * Events are produced in the order of the lines of the document:
+ * - A key without value produces a {@link KeyStartEvent}.
+ * - A key with a value produces a {@link ScalarEvent}.
+ * - Each item of a list produces a {@link ListItemEvent}, attached to the key that precedes the list.
+ * <p>
+ * Syntax errors are thrown as {@link io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException}
+ * when the faulty line is reached. This class is not thread-safe.
+ *
+ * @since 0.2.0
+ */
+public final class ParsingEventReader implements AutoCloseable {
+
+    private final LineProvider lineProvider;
+
+    private final SmallYAMLParser parser = new SmallYAMLParser();
+
+    private final ParsingCollector collector = new ParsingCollector() {
+
+        @Override
+        public void collectKey(String key) {
+            pendingEvent = new KeyStartEvent(key, parser.lineNumber());
+        }
+
+        @Override
+        public void collectSingleValue(String key, String value) {
+            pendingEvent = new ScalarEvent(key, value, parser.lineNumber());
+        }
+
+        @Override
+        public void collectListValue(String key, String value, boolean isNewList) {
+            pendingEvent = new ListItemEvent(key, value, isNewList, parser.lineNumber());
+        }
+
+    };
+
+    private ParsingEvent pendingEvent;
+
+    private ParsingEventReader(LineProvider lineProvider) {
+        this.lineProvider = lineProvider;
+    }
+
+    /**
+     * Creates a reader producing the events of the lines of the given {@link LineProvider}.
+     * <p>
+     * Closing the reader closes the provider.
+     *
+     * @param lineProvider the non-null line provider to read from
+     * @return a reader over the lines of the provider
+     * @throws NullPointerException if {@code lineProvider} is null
+     *
+     * @since 0.2.0
+     */
+    public static ParsingEventReader from(LineProvider lineProvider) {
+        Objects.requireNonNull(lineProvider);
+        return new ParsingEventReader(lineProvider);
+    }
+
+    /**
+     * Returns whether another event is available. Lines that do not produce any event, such as comments and
+     * blank lines, are skipped.
+     *
+     * @return {@code true} if a later call to {@link #next()} would return an event; {@code false} otherwise
+     * @throws IOException if an I/O error occurs while reading the lines
+     * @throws io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException if a line is malformed
+     *
+     * @since 0.2.0
+     */
+    public boolean hasNext() throws IOException {
+        while (pendingEvent == null && parser.parseLine(lineProvider, collector)){
+            /* lines without event are skipped */
+        }
+        return pendingEvent != null;
+    }
+
+    /**
+     * Returns the next event.
+     *
+     * @return the next event; never null
+     * @throws IOException if an I/O error occurs while reading the lines
+     * @throws io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException if a line is malformed
+     * @throws NoSuchElementException if no more events are available
+     *
+     * @since 0.2.0
+     */
+    public ParsingEvent next() throws IOException {
+        if(!hasNext()){
+            throw new NoSuchElementException();
+        }
+        var event = pendingEvent;
+        pendingEvent = null;
+        return event;
+    }
+
+    /**
+     * Closes the underlying {@link LineProvider}.
+     *
+     * @throws IOException if an I/O error occurs while closing the provider
+     *
+     * @since 0.2.0
+     */
+    @Override
+    public void close() throws IOException {
+        lineProvider.close();
+    }
+
+}
@@ -0,0 +1,44 @@
+package io.github.sekelenao.smallyaml.api.event;
+
+import io.github.sekelenao.smallyaml.internal.util.Assertions;
+
+import java.util.Objects;
+
+/**
+ * A record that represents a key with a single value. Implements the {@code ParsingEvent} interface.
+ *
+ * @since 0.2.0
+ */
+public record ScalarEvent(String key, String value, long lineNumber) implements ParsingEvent {
+
+    /**
+     * Constructs a {@code ScalarEvent} instance, ensuring that the key and value are non-null and the line
+     * number is valid.
+     *
+     * @param key        a non-null string representing the full key path
+     * @param value      a non-null string representing the value associated with the key
+     * @param lineNumber the strictly positive number of the line of the value
+     * @throws NullPointerException if {@code key} or {@code value} is null
+     * @throws IllegalArgumentException if {@code lineNumber} is not strictly positive
+     *
+     * @since 0.2.0
+     */
+    public ScalarEvent {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Assertions.isStrictlyPositive(lineNumber);
+    }
+
+    /**
+     * Retrieves the type of the event.
+     *
+     * @return {@link Type#SCALAR}
+     *
+     * @since 0.2.0
+     */
+    @Override
+    public Type type() {
+        return Type.SCALAR;
+    }
+
+}
@@ -0,0 +1,15 @@
+/**
+ * Streaming access to SmallYAML documents.
+ *
+ * <p>Provides a pull-based reader that turns a document into a sequence of
+ * parsing events, one line at a time, and a push-based collector interface that
+ * receives the same content through callbacks, instead of building a whole
+ * document in memory. Both only keep the keys enclosing the current line, so
+ * their memory usage depends on the depth of the document, not on its size.</p>
+ *
+ * <p>Events and callbacks carry the full key path they belong to, so client
+ * code can process very large inputs without tracking indentation by itself.</p>
+ *
+ * @since 0.2.0
+ */
+package io.github.sekelenao.smallyaml.api.event;
@@ -0,0 +1,42 @@
+package io.github.sekelenao.smallyaml.api.exception;
+
+/**
+ * The kind of error found in a document, shared by the {@code kind()} of a
+ * {@link io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException} and the errors reported by
+ * {@link io.github.sekelenao.smallyaml.api.document.PermissiveDocument#validateAll}.
+ *
+ * @since 0.2.0
+ */
+public enum ErrorKind {
+
+    /**
+     * A key is invalid.
+     *
+     * @since 0.2.0
+     */
+    KEY,
+
+    /**
+     * A value is invalid, or cannot be attached to a key.
+     *
+     * @since 0.2.0
+     */
+    VALUE,
+
+    /**
+     * The indentation of a line is invalid.
+     *
+     * @since 0.2.0
+     */
+    INDENTATION,
+
+    /**
+     * A property is defined more than once. Such errors are thrown as a
+     * {@link io.github.sekelenao.smallyaml.api.exception.document.DuplicatedPropertyException}, never as a
+     * {@link io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException}.
+     *
+     * @since 0.2.0
+     */
+    DUPLICATED_PROPERTY
+
+}
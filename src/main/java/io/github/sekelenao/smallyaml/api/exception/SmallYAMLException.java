@@ -26,4 +26,21 @@ public class SmallYAMLException extends RuntimeException {
         super(message);
     }
 
+    /**
+     * Constructs a new {@code SmallYAMLException} with the specified detail message, choosing whether the stack
+     * trace is recorded.
+     * <p>
+     * Recording the stack trace is the main cost of creating an exception: exceptions that are created in bulk and
+     * handled close to where they are thrown, for instance while reporting every error of many documents, can skip it.
+     *
+     * @param message            the detail message, which may be null if the subclass computes it in
+     *                           {@link #getMessage()}
+     * @param writableStackTrace whether the stack trace should be recorded
+     *
+     * @since 0.2.0
+     */
+    protected SmallYAMLException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
+
 }
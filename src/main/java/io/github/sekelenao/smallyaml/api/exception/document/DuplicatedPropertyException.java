@@ -18,8 +18,30 @@ import io.github.sekelenao.smallyaml.api.exception.SmallYAMLException;
  */
 public class DuplicatedPropertyException extends SmallYAMLException {
 
-    private DuplicatedPropertyException(String message) {
-        super(message);
+    private final String key;
+
+    private String message;
+
+    private DuplicatedPropertyException(String key, boolean writableStackTrace) {
+        super(null, writableStackTrace);
+        this.key = key;
+    }
+
+    /**
+     * Returns the detail message of the exception, which is only built on the first call.
+     *
+     * @return the message containing the duplicated property key
+     *
+     * @since 0.2.0
+     */
+    @Override
+    public String getMessage() {
+        var generatedMessage = message;
+        if(generatedMessage == null){
+            generatedMessage = "Duplicated property '" + key + "'";
+            message = generatedMessage;
+        }
+        return generatedMessage;
     }
 
     /**
@@ -33,7 +55,22 @@ public class DuplicatedPropertyException extends SmallYAMLException {
      * @since 0.1.0
      */
     public static DuplicatedPropertyException forFollowing(String key){
-        return new DuplicatedPropertyException("Duplicated property '" + key + "'");
+        return new DuplicatedPropertyException(key, true);
+    }
+
+    /**
+     * Constructs a {@code DuplicatedPropertyException} for the given key, choosing whether the stack trace
+     * is recorded.
+     *
+     * @param key                the property key that caused the exception
+     * @param writableStackTrace whether the stack trace should be recorded
+     * @return a new instance of {@code DuplicatedPropertyException} containing
+     *         a message with the duplicated property key
+     *
+     * @since 0.2.0
+     */
+    public static DuplicatedPropertyException forFollowing(String key, boolean writableStackTrace){
+        return new DuplicatedPropertyException(key, writableStackTrace);
     }
 
 }
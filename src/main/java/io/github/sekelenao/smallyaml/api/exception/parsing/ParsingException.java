@@ -1,7 +1,9 @@
 package io.github.sekelenao.smallyaml.api.exception.parsing;
 
+import io.github.sekelenao.smallyaml.api.exception.ErrorKind;
 import io.github.sekelenao.smallyaml.api.exception.SmallYAMLException;
 
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -14,12 +16,72 @@ import java.util.Objects;
  */
 public class ParsingException extends SmallYAMLException {
 
-    private ParsingException(String message) {
-        super(message);
+    private final ErrorKind kind;
+
+    private final String details;
+
+    private final String raw;
+
+    private String message;
+
+    private ParsingException(ErrorKind kind, String details, String raw, boolean writableStackTrace) {
+        super(null, writableStackTrace);
+        this.kind = kind;
+        this.details = details;
+        this.raw = raw;
     }
 
-    private static String generateMessage(String type, String details, String raw){
-        return String.format("Invalid %s: %s for: '%s'", type, details, raw);
+    /**
+     * Returns the detail message of the exception, which is only built on the first call.
+     *
+     * @return the message describing the error, its details and the faulty part of the line
+     *
+     * @since 0.2.0
+     */
+    @Override
+    public String getMessage() {
+        var generatedMessage = message;
+        if(generatedMessage == null){
+            generatedMessage = "Invalid " + kind.name().toLowerCase(Locale.ROOT) + ": " + details + " for: '" + raw + "'";
+            message = generatedMessage;
+        }
+        return generatedMessage;
+    }
+
+    /**
+     * Constructs a {@link ParsingException} of the given kind, choosing whether the stack trace is recorded.
+     *
+     * @param kind               the part of the line that made the parsing fail, which is either
+     *                           {@link ErrorKind#KEY}, {@link ErrorKind#VALUE} or {@link ErrorKind#INDENTATION}
+     * @param details            a description or explanation about what makes the line invalid
+     * @param raw                the part of the line that caused the parsing error
+     * @param writableStackTrace whether the stack trace should be recorded
+     * @return a {@link ParsingException} containing the error details and the faulty part of the line
+     * @throws NullPointerException if {@code kind}, {@code details} or {@code raw} is null
+     * @throws IllegalArgumentException if {@code kind} is {@link ErrorKind#DUPLICATED_PROPERTY}
+     *
+     * @since 0.2.0
+     */
+    public static ParsingException of(ErrorKind kind, String details, String raw, boolean writableStackTrace){
+        Objects.requireNonNull(kind);
+        Objects.requireNonNull(details);
+        Objects.requireNonNull(raw);
+        if(kind == ErrorKind.DUPLICATED_PROPERTY){
+            throw new IllegalArgumentException("Duplicated properties are reported by DuplicatedPropertyException");
+        }
+        return new ParsingException(kind, details, raw, writableStackTrace);
+    }
+
+    /**
+     * Returns the kind of the error, which tells whether the key, the value or the indentation of the line
+     * made the parsing fail.
+     *
+     * @return {@link ErrorKind#KEY}, {@link ErrorKind#VALUE} or {@link ErrorKind#INDENTATION}, never null
+     *
+     * @since 0.2.0
+     */
+    public ErrorKind kind(){
+        return kind;
     }
 
     /**
@@ -36,7 +98,7 @@ public class ParsingException extends SmallYAMLException {
     public static ParsingException wrongValue(String details, String value){
         Objects.requireNonNull(details);
         Objects.requireNonNull(value);
-        return new ParsingException(generateMessage("value", details, value));
+        return new ParsingException(ErrorKind.VALUE, details, value, true);
     }
 
     /**
@@ -53,7 +115,7 @@ public class ParsingException extends SmallYAMLException {
     public static ParsingException wrongKey(String details, String key){
         Objects.requireNonNull(details);
         Objects.requireNonNull(key);
-        return new ParsingException(generateMessage("key", details, key));
+        return new ParsingException(ErrorKind.KEY, details, key, true);
     }
 
     /**
@@ -70,7 +132,7 @@ public class ParsingException extends SmallYAMLException {
     public static ParsingException wrongIndentation(String details, String line){
         Objects.requireNonNull(details);
         Objects.requireNonNull(line);
-        return new ParsingException(generateMessage("indentation", details, line));
+        return new ParsingException(ErrorKind.INDENTATION, details, line, true);
     }
 
 }
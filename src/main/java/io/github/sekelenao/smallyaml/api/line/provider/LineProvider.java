@@ -1,7 +1,9 @@
 package io.github.sekelenao.smallyaml.api.line.provider;
 
 import io.github.sekelenao.smallyaml.internal.parsing.line.provider.BufferedReaderLineProvider;
+import io.github.sekelenao.smallyaml.internal.parsing.line.provider.MappedFileLineProvider;
 import io.github.sekelenao.smallyaml.internal.parsing.line.provider.StringLineProvider;
+import io.github.sekelenao.smallyaml.internal.parsing.line.provider.Utf8InputStreamLineProvider;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -9,6 +11,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Objects;
 
 /**
@@ -32,7 +35,7 @@ public interface LineProvider extends AutoCloseable {
     /**
      * Creates a line provider that reads from the given in-memory text.
      * <p>
-     * Line breaks are recognized as '\n' and are not included in returned lines.
+     * Line breaks are recognized as '\n' or "\r\n" and are not included in returned lines.
      *
      * @param text the non-null input text to read from
      * @return a line provider backed by the provided text
@@ -64,6 +67,8 @@ public interface LineProvider extends AutoCloseable {
     /**
      * Creates a line provider that reads from the given {@link InputStream} using the provided {@link Charset}.
      * <p>
+     * Lines are split as {@link BufferedReader#readLine()} does. UTF-8 streams are split directly on their bytes,
+     * without going through a {@link java.io.Reader}, and only lines containing non-ASCII bytes are decoded.
      * The caller remains responsible for closing the original stream when appropriate.
      *
      * @param inputStream the non-null input stream to read from
@@ -76,6 +81,9 @@ public interface LineProvider extends AutoCloseable {
     static LineProvider with(InputStream inputStream, Charset charset){
         Objects.requireNonNull(inputStream);
         Objects.requireNonNull(charset);
+        if(StandardCharsets.UTF_8.equals(charset)){
+            return new Utf8InputStreamLineProvider(inputStream);
+        }
         var inputStreamReader = new InputStreamReader(inputStream, charset);
         return new BufferedReaderLineProvider(new BufferedReader(inputStreamReader));
     }
@@ -97,6 +105,26 @@ public interface LineProvider extends AutoCloseable {
         return with(inputStream, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Creates a line provider that reads the UTF-8 file located at the given {@link Path}.
+     * <p>
+     * The file is memory-mapped and split into lines in place, without copying it into the heap: only the
+     * returned lines are copied out of the mapping. Lines are split as {@link BufferedReader#readLine()} does.
+     * Files bigger than 2 GB are mapped region by region. Unlike the other factories, the returned provider owns
+     * the file: it must be closed to release it, and the mapped regions are then unmapped once unreachable.
+     *
+     * @param path the non-null path of the file to read
+     * @return a line provider backed by the mapped file
+     * @throws NullPointerException if {@code path} is null
+     * @throws IOException if the file cannot be opened or mapped
+     *
+     * @since 0.2.0
+     */
+    static LineProvider with(Path path) throws IOException {
+        Objects.requireNonNull(path);
+        return new MappedFileLineProvider(path);
+    }
+
     /**
      * Returns whether another line is available for reading.
      *
@@ -121,6 +149,26 @@ public interface LineProvider extends AutoCloseable {
      */
     String next() throws IOException;
 
+    /**
+     * Returns the next line as a character sequence that may be reused by this provider.
+     * <p>
+     * The returned sequence is only valid until the next call to any method of this provider; its
+     * {@link CharSequence#toString()} and {@link CharSequence#subSequence(int, int)} methods return independent
+     * strings that can be kept. Providers reading from a buffer can override this method to avoid creating
+     * a string for every line, including comments and blank lines.
+     * <p>
+     * By default, this method returns {@link #next()}.
+     *
+     * @return the next available line
+     * @throws IOException if an I/O error occurs while reading the next line
+     * @throws java.util.NoSuchElementException if no more lines are available
+     *
+     * @since 0.2.0
+     */
+    default CharSequence nextSequence() throws IOException {
+        return next();
+    }
+
     /**
      * Closes this resource.
      * <p>
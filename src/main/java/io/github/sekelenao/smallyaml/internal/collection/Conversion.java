@@ -0,0 +1,65 @@
+package io.github.sekelenao.smallyaml.internal.collection;
+
+import io.github.sekelenao.smallyaml.api.document.property.Property;
+import io.github.sekelenao.smallyaml.api.exception.document.WrongPropertyTypeException;
+import io.github.sekelenao.smallyaml.internal.parsing.booleans.StrictBooleanParser;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+/*
+ * Typed conversion of a stored value, whose result is cached by the PropertyStore. Results must be immutable, or never
+ * be handed out without a copy, since they are shared by every reader of the store. A conversion throws the exception
+ * of the getter when the stored value has the wrong type or cannot be parsed, and failures are never cached.
+ */
+public final class Conversion<T> {
+
+    public static final Conversion<OptionalInt> SINGLE_INT =
+        new Conversion<>(value -> OptionalInt.of(Integer.parseInt(singleValueOf(value))));
+
+    public static final Conversion<OptionalLong> SINGLE_LONG =
+        new Conversion<>(value -> OptionalLong.of(Long.parseLong(singleValueOf(value))));
+
+    public static final Conversion<OptionalDouble> SINGLE_DOUBLE =
+        new Conversion<>(value -> OptionalDouble.of(Double.parseDouble(singleValueOf(value))));
+
+    public static final Conversion<Boolean> SINGLE_BOOLEAN =
+        new Conversion<>(value -> StrictBooleanParser.parse(singleValueOf(value)));
+
+    public static final Conversion<int[]> MULTIPLE_INTS =
+        new Conversion<>(value -> multipleValuesOf(value).sharedArrayOfInts());
+
+    public static final Conversion<long[]> MULTIPLE_LONGS =
+        new Conversion<>(value -> multipleValuesOf(value).sharedArrayOfLongs());
+
+    public static final Conversion<double[]> MULTIPLE_DOUBLES =
+        new Conversion<>(value -> multipleValuesOf(value).sharedArrayOfDoubles());
+
+    private final Function<Object, ? extends T> function;
+
+    private Conversion(Function<Object, ? extends T> function){
+        this.function = function;
+    }
+
+    private static String singleValueOf(Object value){
+        if(value instanceof String valueAsString){
+            return valueAsString;
+        }
+        throw WrongPropertyTypeException.withExpected(Property.Type.SINGLE);
+    }
+
+    private static ValueList multipleValuesOf(Object value){
+        if(value instanceof ValueList valueList){
+            return valueList;
+        }
+        throw WrongPropertyTypeException.withExpected(Property.Type.MULTIPLE);
+    }
+
+    T apply(Object value){
+        return Objects.requireNonNull(function.apply(value));
+    }
+
+}
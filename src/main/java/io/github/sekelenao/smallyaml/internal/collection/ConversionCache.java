@@ -0,0 +1,51 @@
+package io.github.sekelenao.smallyaml.internal.collection;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * Results of the conversions of the entries of a PropertyStore, shared with its scoped stores. Each entry holds an
+ * immutable chain of its cached results, one per conversion, so a read is a volatile load and a walk over a few nodes,
+ * without any lock. A result is prepended with a compare-and-set, and a result lost to a concurrent update is simply
+ * computed again on a later call.
+ */
+final class ConversionCache {
+
+    private record CachedResult(Conversion<?> conversion, Object result, CachedResult next) {}
+
+    private final int size;
+
+    /*
+     * Built on the first conversion, with the racy single-check idiom: concurrent first calls may each build a table
+     * and lose the results cached in the other ones, which is harmless. The array of AtomicReferenceArray is final, so
+     * the table is safely published.
+     */
+    private AtomicReferenceArray<CachedResult> results;
+
+    ConversionCache(int size){
+        this.size = size;
+    }
+
+    private AtomicReferenceArray<CachedResult> results(){
+        var table = results;
+        if(table == null){
+            table = new AtomicReferenceArray<>(size);
+            results = table;
+        }
+        return table;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T convert(int entry, Object value, Conversion<T> conversion){
+        var table = results();
+        var head = table.get(entry);
+        for (var cached = head; cached != null; cached = cached.next()){
+            if(cached.conversion() == conversion){
+                return (T) cached.result();
+            }
+        }
+        var result = conversion.apply(value);
+        table.compareAndSet(entry, head, new CachedResult(conversion, result, head));
+        return result;
+    }
+
+}
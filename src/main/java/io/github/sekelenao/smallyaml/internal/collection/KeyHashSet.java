@@ -0,0 +1,106 @@
+package io.github.sekelenao.smallyaml.internal.collection;
+
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/*
+ * Set of keys, stored as 64-bit hashes in an open addressing table of longs. By default, keys are not kept, and
+ * two different keys are mistaken for each other with a probability of about n² / 2^65 for n keys, which is below
+ * one in ten million for a million keys: a valid document is then reported with a duplicated property. When hits
+ * are confirmed, keys are kept next to their hash and compared on every hash hit, so the set is exact.
+ */
+public final class KeyHashSet {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final long EMPTY = 0L;
+
+    private final ToLongFunction<String> hashFunction;
+
+    private long[] hashes = new long[INITIAL_CAPACITY];
+
+    // Null when hits are not confirmed
+    private String[] keys;
+
+    private int size;
+
+    public KeyHashSet(){
+        this(false);
+    }
+
+    public KeyHashSet(boolean areHitsConfirmed){
+        this(areHitsConfirmed, KeyHashSet::hash);
+    }
+
+    /*
+     * The hash function can be replaced by tests, to create collisions.
+     */
+    public KeyHashSet(boolean areHitsConfirmed, ToLongFunction<String> hashFunction){
+        Objects.requireNonNull(hashFunction);
+        this.hashFunction = hashFunction;
+        this.keys = areHitsConfirmed ? new String[INITIAL_CAPACITY] : null;
+    }
+
+    /*
+     * FNV-1a over the characters, followed by the finalizer of MurmurHash3 to spread the bits.
+     */
+    static long hash(String key){
+        var hash = 0xCBF29CE484222325L;
+        for (var index = 0; index < key.length(); index++){
+            hash = (hash ^ key.charAt(index)) * 0x100000001B3L;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static boolean insert(long[] hashes, String[] keys, long hash, String key){
+        var mask = hashes.length - 1;
+        var index = (int) hash & mask;
+        while (hashes[index] != EMPTY){
+            if(hashes[index] == hash && (keys == null || keys[index].equals(key))){
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        hashes[index] = hash;
+        if(keys != null){
+            keys[index] = key;
+        }
+        return true;
+    }
+
+    private void grow(){
+        var newHashes = new long[hashes.length * 2];
+        var newKeys = keys == null ? null : new String[newHashes.length];
+        for (var index = 0; index < hashes.length; index++){
+            if(hashes[index] != EMPTY){
+                insert(newHashes, newKeys, hashes[index], keys == null ? null : keys[index]);
+            }
+        }
+        hashes = newHashes;
+        keys = newKeys;
+    }
+
+    /*
+     * Returns false if the key was already present, or only its hash when hits are not confirmed.
+     */
+    public boolean add(String key){
+        Objects.requireNonNull(key);
+        if(size * 2 >= hashes.length){
+            grow();
+        }
+        var hash = hashFunction.applyAsLong(key);
+        // Zero marks the empty slots
+        if(insert(hashes, keys, hash == EMPTY ? 1L : hash, key)){
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    public int size(){
+        return size;
+    }
+
+}
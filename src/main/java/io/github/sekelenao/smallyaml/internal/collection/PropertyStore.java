@@ -0,0 +1,354 @@
+package io.github.sekelenao.smallyaml.internal.collection;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/*
+ * Immutable map of the properties of a document, built once after parsing. Keys, values and key hashes are stored in
+ * parallel arrays, in the iteration order of the source map, and an open addressing table with linear probing maps
+ * the hashes to the indexes of the entries. A lookup reads two arrays and compares the cached hashes before the keys,
+ * instead of following a node per entry. Lists of numbers are only packed into primitive arrays in the copy returned
+ * by packed, so loading a document never pays for it.
+ *
+ * A scoped store is a view sharing these arrays, restricted to the keys starting with its prefix, which are seen
+ * relative to it. Its entries are a range of the sorted key index, and its lookups combine the hash of the prefix with
+ * the hash of the relative key, as String::hashCode of the full key would, so no full key is ever built.
+ */
+public final class PropertyStore {
+
+    private static final int EMPTY_SLOT = 0;
+
+    private static final int NOT_FOUND = -1;
+
+    public static final PropertyStore EMPTY = copyOf(Map.of());
+
+    private final String[] keys;
+
+    private final Object[] values;
+
+    private final int[] hashes;
+
+    /*
+     * Index of the entry plus one, so that EMPTY_SLOT is never a valid entry. The table is at least twice as large as
+     * the amount of entries, which keeps probe sequences short.
+     */
+    private final int[] slots;
+
+    private final ConversionCache conversionCache;
+
+    /*
+     * Empty for the whole store, otherwise ends with a dot.
+     */
+    private final String prefix;
+
+    private final int prefixHash;
+
+    /*
+     * Range of the sorted key index holding the entries of a scoped store.
+     */
+    private final int start;
+
+    private final int end;
+
+    /*
+     * Built on the first prefix query, with the racy single-check idiom: concurrent first calls may each build an
+     * index, but they are equal and safely published since all the fields of SortedKeyIndex are final.
+     * Scoped stores receive the index of the whole store.
+     */
+    private SortedKeyIndex sortedKeyIndex;
+
+    /*
+     * Keys of a scoped store relative to its prefix, in key order, built on the first positional access so that
+     * iterating the view does not allocate a key per call. Concurrent first calls may each build an array, but its
+     * elements are only safely published through a volatile write.
+     */
+    private volatile String[] relativeKeys;
+
+    private PropertyStore(String[] keys, Object[] values, int[] hashes, int[] slots){
+        this.keys = keys;
+        this.values = values;
+        this.hashes = hashes;
+        this.slots = slots;
+        this.conversionCache = new ConversionCache(keys.length);
+        this.prefix = "";
+        this.prefixHash = 0;
+        this.start = 0;
+        this.end = keys.length;
+    }
+
+    private PropertyStore(PropertyStore store, String prefix, SortedKeyIndex sortedKeyIndex, int start, int end){
+        this.keys = store.keys;
+        this.values = store.values;
+        this.hashes = store.hashes;
+        this.slots = store.slots;
+        this.conversionCache = store.conversionCache;
+        this.prefix = prefix;
+        this.prefixHash = prefix.hashCode();
+        this.sortedKeyIndex = sortedKeyIndex;
+        this.start = start;
+        this.end = end;
+    }
+
+    private PropertyStore(PropertyStore store, Object[] values){
+        this.keys = store.keys;
+        this.values = values;
+        this.hashes = store.hashes;
+        this.slots = store.slots;
+        this.conversionCache = new ConversionCache(keys.length);
+        this.prefix = store.prefix;
+        this.prefixHash = store.prefixHash;
+        this.sortedKeyIndex = store.sortedKeyIndex;
+        this.start = store.start;
+        this.end = store.end;
+        this.relativeKeys = store.relativeKeys;
+    }
+
+    private static int spread(int hash){
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSizeFor(int size){
+        return Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1;
+    }
+
+    /*
+     * 31 to the given power, overflowing as String::hashCode does.
+     */
+    private static int powerOf31(int exponent){
+        var result = 1;
+        var base = 31;
+        while (exponent != 0){
+            if((exponent & 1) != 0){
+                result *= base;
+            }
+            base *= base;
+            exponent >>>= 1;
+        }
+        return result;
+    }
+
+    public static PropertyStore copyOf(Map<String, ?> properties){
+        Objects.requireNonNull(properties);
+        var size = properties.size();
+        var keys = new String[size];
+        var values = new Object[size];
+        var hashes = new int[size];
+        var slots = new int[tableSizeFor(size)];
+        var mask = slots.length - 1;
+        var index = 0;
+        for (var property : properties.entrySet()){
+            var key = Objects.requireNonNull(property.getKey());
+            var hash = spread(key.hashCode());
+            keys[index] = key;
+            values[index] = Objects.requireNonNull(property.getValue());
+            hashes[index] = hash;
+            var slot = hash & mask;
+            while (slots[slot] != EMPTY_SLOT){
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = ++index;
+        }
+        return new PropertyStore(keys, values, hashes, slots);
+    }
+
+    private boolean isScoped(){
+        return !prefix.isEmpty();
+    }
+
+    private boolean matches(String candidate, String key){
+        if(!isScoped()){
+            return candidate.equals(key);
+        }
+        return candidate.length() == prefix.length() + key.length()
+            && candidate.startsWith(prefix)
+            && candidate.regionMatches(prefix.length(), key, 0, key.length());
+    }
+
+    /*
+     * Returns the index of the entry of the key in the shared arrays, or -1 if the key is absent.
+     */
+    private int entryOf(String key){
+        var fullKeyHash = isScoped() ? prefixHash * powerOf31(key.length()) + key.hashCode() : key.hashCode();
+        var hash = spread(fullKeyHash);
+        var mask = slots.length - 1;
+        var slot = hash & mask;
+        int entry;
+        while ((entry = slots[slot]) != EMPTY_SLOT){
+            var index = entry - 1;
+            if(hashes[index] == hash && matches(keys[index], key)){
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    private int entryAt(int position){
+        Objects.checkIndex(position, size());
+        return isScoped() ? sortedKeyIndex.entryIndexAt(start + position) : position;
+    }
+
+    public int size(){
+        return end - start;
+    }
+
+    public boolean containsKey(String key){
+        Objects.requireNonNull(key);
+        return entryOf(key) != NOT_FOUND;
+    }
+
+    /*
+     * Returns the value of the key, or null if the key is absent.
+     */
+    public Object get(String key){
+        Objects.requireNonNull(key);
+        var entry = entryOf(key);
+        return entry == NOT_FOUND ? null : values[entry];
+    }
+
+    /*
+     * Returns the value of the key converted by the given conversion, or null if the key is absent. The result is
+     * computed on the first successful call and then shared by every call, on this store and on the scoped stores.
+     */
+    public <T> T getConverted(String key, Conversion<T> conversion){
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(conversion);
+        var entry = entryOf(key);
+        return entry == NOT_FOUND ? null : conversionCache.convert(entry, values[entry], conversion);
+    }
+
+    /*
+     * Entries of the whole store are in the iteration order of the source map, those of a scoped store in key order.
+     */
+    public String keyAt(int position){
+        if(!isScoped()){
+            return keys[entryAt(position)];
+        }
+        Objects.checkIndex(position, size());
+        return relativeKeys()[position];
+    }
+
+    private String[] relativeKeys(){
+        var scopedKeys = relativeKeys;
+        if(scopedKeys == null){
+            scopedKeys = new String[size()];
+            for (var position = 0; position < scopedKeys.length; position++){
+                scopedKeys[position] = keys[entryAt(position)].substring(prefix.length());
+            }
+            relativeKeys = scopedKeys;
+        }
+        return scopedKeys;
+    }
+
+    public Object valueAt(int position){
+        return values[entryAt(position)];
+    }
+
+    /*
+     * Returns a store holding the same entries, whose lists of numbers are packed into primitive arrays. Only the
+     * entries of a scoped store are packed. Keys, hashes and the sorted key index are shared, but the conversion
+     * cache is not, since the results cached for the original lists are parsed copies that packed lists avoid.
+     */
+    public PropertyStore packed(){
+        var packedValues = values.clone();
+        for (var position = 0; position < size(); position++){
+            var entry = entryAt(position);
+            if(packedValues[entry] instanceof ValueList valueList){
+                packedValues[entry] = valueList.packed();
+            }
+        }
+        return new PropertyStore(this, packedValues);
+    }
+
+    public SortedKeyIndex sortedKeyIndex(){
+        var index = sortedKeyIndex;
+        if(index == null){
+            index = SortedKeyIndex.of(keys, this::entryOf);
+            sortedKeyIndex = index;
+        }
+        return index;
+    }
+
+    /*
+     * Returns a view of the keys starting with the given key followed by a dot, relative to it.
+     */
+    public PropertyStore scopedTo(String key){
+        Objects.requireNonNull(key);
+        var scopePrefix = prefix + key + '.';
+        var index = sortedKeyIndex();
+        var scopeStart = index.startOf(scopePrefix);
+        var scopeEnd = index.endOf(scopePrefix, scopePrefix.length(), scopeStart);
+        return new PropertyStore(this, scopePrefix, index, scopeStart, scopeEnd);
+    }
+
+    /*
+     * Returns the keys found right under the given key, relative to the prefix of the store. Keys sharing a prefix are
+     * contiguous in the sorted key index, so each subkey is found with a binary search skipping all the keys under it.
+     */
+    public Set<String> subKeysOf(String key){
+        Objects.requireNonNull(key);
+        var subKeysPrefix = prefix + key + '.';
+        var index = sortedKeyIndex();
+        var position = index.startOf(subKeysPrefix);
+        var subKeysEnd = index.endOf(subKeysPrefix, subKeysPrefix.length(), position);
+        var subKeys = new HashSet<String>();
+        while (position < subKeysEnd){
+            var currentKey = index.keyAt(position);
+            var nextDotIndex = currentKey.indexOf('.', subKeysPrefix.length());
+            if(nextDotIndex == -1){
+                position++;
+                continue;
+            }
+            subKeys.add(currentKey.substring(prefix.length(), nextDotIndex));
+            position = index.endOf(currentKey, nextDotIndex + 1, position);
+        }
+        return Collections.unmodifiableSet(subKeys);
+    }
+
+    /*
+     * Equal to any store holding the same entries, whatever their order, as Map::equals.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if(!(other instanceof PropertyStore otherStore) || otherStore.size() != size()){
+            return false;
+        }
+        for (var position = 0; position < size(); position++){
+            if(!valueAt(position).equals(otherStore.get(keyAt(position)))){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Same as the hash code of a Map holding the same entries.
+     */
+    @Override
+    public int hashCode() {
+        var hashCode = 0;
+        for (var position = 0; position < size(); position++){
+            hashCode += keyAt(position).hashCode() ^ valueAt(position).hashCode();
+        }
+        return hashCode;
+    }
+
+    /*
+     * Same format as AbstractMap::toString.
+     */
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("{");
+        for (var position = 0; position < size(); position++){
+            if(position > 0){
+                builder.append(", ");
+            }
+            builder.append(keyAt(position)).append('=').append(valueAt(position));
+        }
+        return builder.append('}').toString();
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.github.sekelenao.smallyaml.internal.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/*
+ * Keys of a PropertyStore in lexicographic order, with the index of their entry in the store. Keys sharing a prefix
+ * are contiguous, so the keys under a prefix are found with two binary searches. Fields are final and never
+ * modified after construction, which allows the index to be shared through a data race.
+ */
+public final class SortedKeyIndex {
+
+    private final String[] sortedKeys;
+
+    private final int[] entryIndexes;
+
+    private SortedKeyIndex(String[] sortedKeys, int[] entryIndexes){
+        this.sortedKeys = sortedKeys;
+        this.entryIndexes = entryIndexes;
+    }
+
+    static SortedKeyIndex of(String[] keys, ToIntFunction<String> entryIndexOf){
+        var sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+        var entryIndexes = new int[sortedKeys.length];
+        for (var position = 0; position < sortedKeys.length; position++){
+            entryIndexes[position] = entryIndexOf.applyAsInt(sortedKeys[position]);
+        }
+        return new SortedKeyIndex(sortedKeys, entryIndexes);
+    }
+
+    public int size(){
+        return sortedKeys.length;
+    }
+
+    public String keyAt(int position){
+        return sortedKeys[position];
+    }
+
+    public int entryIndexAt(int position){
+        return entryIndexes[position];
+    }
+
+    /*
+     * Returns the first position whose key is greater than or equal to the prefix, which is the start of the keys
+     * starting with the prefix.
+     */
+    public int startOf(String prefix){
+        Objects.requireNonNull(prefix);
+        var low = 0;
+        var high = sortedKeys.length;
+        while (low < high){
+            var middle = (low + high) >>> 1;
+            if(sortedKeys[middle].compareTo(prefix) < 0){
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Returns the end of the keys starting with the first prefixLength characters of the given key, searching from a
+     * position where a key starts with this prefix.
+     */
+    public int endOf(String key, int prefixLength, int from){
+        Objects.requireNonNull(key);
+        Objects.checkFromToIndex(0, prefixLength, key.length());
+        var low = from;
+        var high = sortedKeys.length;
+        while (low < high){
+            var middle = (low + high) >>> 1;
+            var candidate = sortedKeys[middle];
+            if(candidate.length() >= prefixLength && candidate.regionMatches(0, key, 0, prefixLength)){
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+}
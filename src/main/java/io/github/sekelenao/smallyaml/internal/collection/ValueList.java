@@ -11,24 +11,62 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+/*
+ * List of the values of a property, filled while parsing. Once parsing is over, a list whose values are all canonical
+ * integers, or all canonical decimals, can be packed into a primitive array: its strings are dropped and rebuilt on
+ * the first access to them, which is exact since a canonical value is the string the JDK produces for its number.
+ * Numeric conversions of a packed list read the array without parsing anything.
+ */
 public final class ValueList implements Iterable<String> {
 
+    private static final int MAX_PACKED_DIGITS = 18;
+
+    /*
+     * Null once packed.
+     */
     private String[] values = new String[8];
 
     private int nextEmptyIndex = 0;
 
+    /*
+     * The int[], long[] or double[] holding the values of a packed list, null otherwise.
+     */
+    private final Object packedValues;
+
+    /*
+     * Strings of a packed list, rebuilt on the first access. Packed lists are only created before the document is
+     * published, but this field is written afterwards and may be read by any thread, hence volatile.
+     */
+    private volatile String[] unpackedValues;
+
     public ValueList(String value){
         Objects.requireNonNull(value);
         values[nextEmptyIndex++] = value;
+        packedValues = null;
+    }
+
+    private ValueList(Object packedValues, int size){
+        this.values = null;
+        this.nextEmptyIndex = size;
+        this.packedValues = packedValues;
     }
 
     public void add(String value){
         Objects.requireNonNull(value);
+        if(values == null){
+            throw new IllegalStateException("A packed list cannot be modified");
+        }
         if(nextEmptyIndex == values.length){
             values = Arrays.copyOf(values, values.length * 2);
         }
@@ -41,7 +79,111 @@ public final class ValueList implements Iterable<String> {
 
     public String get(int index){
         Objects.checkIndex(index, nextEmptyIndex);
-        return values[index];
+        return strings()[index];
+    }
+
+    public boolean isPacked(){
+        return packedValues != null;
+    }
+
+    /*
+     * Returns a packed copy of this list if all its values are canonical integers of at most 18 digits, such as
+     * produced by Long::toString, or all canonical decimals, such as produced by Double::toString. Returns this list
+     * otherwise. Integers are packed into an int[] when they all fit in it.
+     */
+    public ValueList packed(){
+        if(values == null){
+            return this;
+        }
+        var areIntegers = true;
+        var areDecimals = true;
+        for (var index = 0; index < nextEmptyIndex && (areIntegers || areDecimals); index++){
+            areIntegers = areIntegers && isCanonicalInteger(values[index]);
+            areDecimals = areDecimals && isCanonicalDecimal(values[index]);
+        }
+        if(areIntegers){
+            var longs = new long[nextEmptyIndex];
+            var fitInInts = true;
+            for (var index = 0; index < nextEmptyIndex; index++){
+                longs[index] = Long.parseLong(values[index]);
+                fitInInts = fitInInts && longs[index] == (int) longs[index];
+            }
+            return new ValueList(fitInInts ? Arrays.stream(longs).mapToInt(value -> (int) value).toArray() : longs, nextEmptyIndex);
+        }
+        if(areDecimals){
+            var doubles = new double[nextEmptyIndex];
+            for (var index = 0; index < nextEmptyIndex; index++){
+                doubles[index] = Double.parseDouble(values[index]);
+            }
+            return new ValueList(doubles, nextEmptyIndex);
+        }
+        return this;
+    }
+
+    private static boolean isCanonicalInteger(String value){
+        var start = !value.isEmpty() && value.charAt(0) == '-' ? 1 : 0;
+        var amountOfDigits = value.length() - start;
+        if(amountOfDigits == 0 || amountOfDigits > MAX_PACKED_DIGITS){
+            return false;
+        }
+        if(amountOfDigits > 1 && value.charAt(start) == '0' || start == 1 && value.charAt(start) == '0'){
+            return false;
+        }
+        for (var index = start; index < value.length(); index++){
+            var character = value.charAt(index);
+            if(character < '0' || character > '9'){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCanonicalDecimal(String value){
+        var start = !value.isEmpty() && value.charAt(0) == '-' ? 1 : 0;
+        var dotIndex = value.indexOf('.', start);
+        if(dotIndex <= start || dotIndex == value.length() - 1){
+            return false;
+        }
+        for (var index = start; index < value.length(); index++){
+            var character = value.charAt(index);
+            if(index != dotIndex && (character < '0' || character > '9')){
+                return false;
+            }
+        }
+        return Double.toString(Double.parseDouble(value)).equals(value);
+    }
+
+    private String[] strings(){
+        var strings = values;
+        if(strings != null){
+            return strings;
+        }
+        strings = unpackedValues;
+        if(strings == null){
+            strings = new String[nextEmptyIndex];
+            for (var index = 0; index < nextEmptyIndex; index++){
+                strings[index] = packedStringAt(index);
+            }
+            unpackedValues = strings;
+        }
+        return strings;
+    }
+
+    /*
+     * Returns the string at the given index without rebuilding the strings of a packed list.
+     */
+    private String stringAt(int index){
+        var strings = values != null ? values : unpackedValues;
+        return strings != null ? strings[index] : packedStringAt(index);
+    }
+
+    private String packedStringAt(int index){
+        return switch (packedValues){
+            case int[] ints -> Integer.toString(ints[index]);
+            case long[] longs -> Long.toString(longs[index]);
+            case double[] doubles -> Double.toString(doubles[index]);
+            default -> throw new IllegalStateException("Unexpected packed values: " + packedValues);
+        };
     }
 
     @Override
@@ -50,6 +192,8 @@ public final class ValueList implements Iterable<String> {
 
             private final int version = nextEmptyIndex;
 
+            private final String[] strings = strings();
+
             private int currentIndex = 0;
 
             @Override
@@ -65,7 +209,7 @@ public final class ValueList implements Iterable<String> {
                 if(!hasNext()){
                     throw new NoSuchElementException();
                 }
-                return values[currentIndex++];
+                return strings[currentIndex++];
             }
 
         };
@@ -81,7 +225,7 @@ public final class ValueList implements Iterable<String> {
             @Override
             public T get(int index) {
                 Objects.checkIndex(index, nextEmptyIndex);
-                return mapper.apply(values[index]);
+                return mapper.apply(strings()[index]);
             }
 
             @Override
@@ -133,7 +277,7 @@ public final class ValueList implements Iterable<String> {
 
             @Override
             public Spliterator<T> spliterator() {
-                return customSpliterator(0, nextEmptyIndex, values);
+                return customSpliterator(0, nextEmptyIndex, strings());
             }
 
             @Override
@@ -147,52 +291,215 @@ public final class ValueList implements Iterable<String> {
     public boolean[] asArrayOfStrictBooleans(){
         var array = new boolean[nextEmptyIndex];
         for(int i = 0; i < nextEmptyIndex; i++){
-            array[i] = StrictBooleanParser.parse(values[i]);
+            array[i] = StrictBooleanParser.parse(stringAt(i));
         }
         return array;
     }
 
     public int[] asArrayOfInts(){
-        var array = new int[nextEmptyIndex];
-        for(int i = 0; i < nextEmptyIndex; i++){
-            array[i] = Integer.parseInt(values[i]);
-        }
-        return array;
+        return packedValues instanceof int[] ints ? ints.clone() : sharedArrayOfInts();
     }
 
     public long[] asArrayOfLongs(){
-        var array = new long[nextEmptyIndex];
-        for(int i = 0; i < nextEmptyIndex; i++){
-            array[i] = Long.parseLong(values[i]);
-        }
-        return array;
+        return packedValues instanceof long[] longs ? longs.clone() : sharedArrayOfLongs();
     }
 
     public double[] asArrayOfDoubles(){
-        var array = new double[nextEmptyIndex];
-        for(int i = 0; i < nextEmptyIndex; i++){
-            array[i] = Double.parseDouble(values[i]);
+        return packedValues instanceof double[] doubles ? doubles.clone() : sharedArrayOfDoubles();
+    }
+
+    /*
+     * Same as asArrayOfInts, but may return the packed array itself, which must never be modified.
+     */
+    int[] sharedArrayOfInts(){
+        return packedValues instanceof int[] ints ? ints : intStream().toArray();
+    }
+
+    /*
+     * Same as asArrayOfLongs, but may return the packed array itself, which must never be modified.
+     */
+    long[] sharedArrayOfLongs(){
+        return packedValues instanceof long[] longs ? longs : longStream().toArray();
+    }
+
+    /*
+     * Same as asArrayOfDoubles, but may return the packed array itself, which must never be modified.
+     */
+    double[] sharedArrayOfDoubles(){
+        return packedValues instanceof double[] doubles ? doubles : doubleStream().toArray();
+    }
+
+    /*
+     * Values are parsed one at a time while the stream is consumed, or read from the packed array, without boxing.
+     */
+    public IntStream intStream(){
+        return StreamSupport.intStream(new IntValuesSpliterator(0, nextEmptyIndex), false);
+    }
+
+    public LongStream longStream(){
+        return StreamSupport.longStream(new LongValuesSpliterator(0, nextEmptyIndex), false);
+    }
+
+    public DoubleStream doubleStream(){
+        return StreamSupport.doubleStream(new DoubleValuesSpliterator(0, nextEmptyIndex), false);
+    }
+
+    private int intAt(int index){
+        return packedValues instanceof int[] ints ? ints[index] : Integer.parseInt(stringAt(index));
+    }
+
+    private long longAt(int index){
+        return switch (packedValues){
+            case long[] longs -> longs[index];
+            case int[] ints -> ints[index];
+            case null, default -> Long.parseLong(stringAt(index));
+        };
+    }
+
+    /*
+     * Packed integers have at most 18 digits, so their conversion rounds as Double::parseDouble does.
+     */
+    private double doubleAt(int index){
+        return switch (packedValues){
+            case double[] doubles -> doubles[index];
+            case int[] ints -> ints[index];
+            case long[] longs -> longs[index];
+            case null, default -> Double.parseDouble(stringAt(index));
+        };
+    }
+
+    /*
+     * Range of indexes split in halves as the spliterator of asListView, each subclass reading the values as a
+     * primitive type.
+     */
+    private abstract static class ValuesSpliterator<S extends ValuesSpliterator<S>> {
+
+        private final int start;
+
+        final int end;
+
+        int index;
+
+        ValuesSpliterator(int start, int end){
+            this.start = start;
+            this.end = end;
+            this.index = start;
         }
-        return array;
+
+        abstract S rangeOf(int from, int to);
+
+        public S trySplit() {
+            if(end - start < 1024){
+                return null;
+            }
+            var middle = (index + end) >>> 1;
+            if (middle == index) {
+                return null;
+            }
+            var spliterator = rangeOf(index, middle);
+            index = middle;
+            return spliterator;
+        }
+
+        public long estimateSize() {
+            return end - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+
+    }
+
+    private final class IntValuesSpliterator extends ValuesSpliterator<IntValuesSpliterator> implements Spliterator.OfInt {
+
+        IntValuesSpliterator(int start, int end){
+            super(start, end);
+        }
+
+        @Override
+        IntValuesSpliterator rangeOf(int from, int to) {
+            return new IntValuesSpliterator(from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            if (index < end) {
+                action.accept(intAt(index++));
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+    private final class LongValuesSpliterator extends ValuesSpliterator<LongValuesSpliterator> implements Spliterator.OfLong {
+
+        LongValuesSpliterator(int start, int end){
+            super(start, end);
+        }
+
+        @Override
+        LongValuesSpliterator rangeOf(int from, int to) {
+            return new LongValuesSpliterator(from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            if (index < end) {
+                action.accept(longAt(index++));
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+    private final class DoubleValuesSpliterator extends ValuesSpliterator<DoubleValuesSpliterator> implements Spliterator.OfDouble {
+
+        DoubleValuesSpliterator(int start, int end){
+            super(start, end);
+        }
+
+        @Override
+        DoubleValuesSpliterator rangeOf(int from, int to) {
+            return new DoubleValuesSpliterator(from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            if (index < end) {
+                action.accept(doubleAt(index++));
+                return true;
+            }
+            return false;
+        }
+
     }
 
+    /*
+     * Packed and unpacked lists holding the same strings are equal.
+     */
     @Override
     public boolean equals(Object other) {
         return other instanceof ValueList otherList
             && nextEmptyIndex == otherList.nextEmptyIndex
-            && Arrays.equals(values, 0, nextEmptyIndex, otherList.values, 0, nextEmptyIndex);
+            && Arrays.equals(strings(), 0, nextEmptyIndex, otherList.strings(), 0, nextEmptyIndex);
     }
 
     @Override
     public int hashCode() {
-        return Arrays.stream(values, 0, nextEmptyIndex)
+        return Arrays.stream(strings(), 0, nextEmptyIndex)
             .mapToInt(Objects::hashCode)
             .reduce(0, (acc, value) -> acc ^ value);
     }
 
     @Override
     public String toString() {
-        return Arrays.stream(values, 0, nextEmptyIndex)
+        return Arrays.stream(strings(), 0, nextEmptyIndex)
             .collect(Collectors.joining(", ", "[", "]"));
     }
 
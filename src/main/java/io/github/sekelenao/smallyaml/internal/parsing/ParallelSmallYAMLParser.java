@@ -0,0 +1,114 @@
+package io.github.sekelenao.smallyaml.internal.parsing;
+
+import io.github.sekelenao.smallyaml.api.exception.document.DuplicatedPropertyException;
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.internal.parsing.collector.MapParsingCollector;
+import io.github.sekelenao.smallyaml.internal.parsing.line.provider.StringLineProvider;
+import io.github.sekelenao.smallyaml.internal.util.Assertions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/*
+ * Every line starting a key at indentation 0 resets the parsing context, so the document can be cut in chunks
+ * at those lines. Chunks are cut while the lines are read: once a chunk holds at least sequentialThreshold lines,
+ * it is submitted to the pool at the next cut, so parsing starts before the end of the input and only the text of
+ * the pending chunks is kept. Lines are read as reusable sequences and appended to the chunk text, so no string is
+ * created per line. Chunks are merged in order. A key found in two chunks is a duplicate, since a list cannot
+ * continue after a key at indentation 0. Chunk failures are returned as values, so that the first failing chunk is
+ * reported with its original exception.
+ */
+public final class ParallelSmallYAMLParser {
+
+    private record ChunkResult(Map<String, Object> properties, RuntimeException failure) {}
+
+    private final ForkJoinPool pool;
+
+    private final int sequentialThreshold;
+
+    public ParallelSmallYAMLParser(ForkJoinPool pool, int sequentialThreshold) {
+        Objects.requireNonNull(pool);
+        Assertions.isStrictlyPositive(sequentialThreshold);
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    private static boolean startsChunk(CharSequence line) {
+        if(line.isEmpty()){
+            return false;
+        }
+        var firstCharacter = line.charAt(0);
+        return !Character.isWhitespace(firstCharacter) && firstCharacter != '#' && firstCharacter != '-';
+    }
+
+    private static ChunkResult parseChunk(String text) {
+        try {
+            var collector = new MapParsingCollector();
+            new SmallYAMLParser().parse(new StringLineProvider(text), collector);
+            return new ChunkResult(collector.underlyingMapAsView(), null);
+        } catch (IOException exception) {
+            return new ChunkResult(null, new UncheckedIOException(exception));
+        } catch (RuntimeException exception) {
+            return new ChunkResult(null, exception);
+        }
+    }
+
+    private static Map<String, Object> propertiesOf(ChunkResult result) {
+        if(result.failure() != null){
+            throw result.failure();
+        }
+        return result.properties();
+    }
+
+    private static Map<String, Object> merge(List<ForkJoinTask<ChunkResult>> tasks) {
+        var properties = new HashMap<String, Object>();
+        for (var task : tasks) {
+            for (var property : propertiesOf(task.join()).entrySet()) {
+                if(properties.putIfAbsent(property.getKey(), property.getValue()) != null){
+                    throw DuplicatedPropertyException.forFollowing(property.getKey());
+                }
+            }
+        }
+        return Collections.unmodifiableMap(properties);
+    }
+
+    private ForkJoinTask<ChunkResult> submitChunk(StringBuilder chunk) {
+        var text = chunk.toString();
+        chunk.setLength(0);
+        return pool.submit(() -> parseChunk(text));
+    }
+
+    public Map<String, Object> parse(LineProvider lineProvider) throws IOException {
+        Objects.requireNonNull(lineProvider);
+        var tasks = new ArrayList<ForkJoinTask<ChunkResult>>();
+        try {
+            var chunk = new StringBuilder();
+            var amountOfChunkLines = 0;
+            while (lineProvider.hasNext()) {
+                var line = lineProvider.nextSequence();
+                if(amountOfChunkLines >= sequentialThreshold && startsChunk(line)){
+                    tasks.add(submitChunk(chunk));
+                    amountOfChunkLines = 0;
+                }
+                chunk.append(line).append('\n');
+                amountOfChunkLines++;
+            }
+            if(tasks.isEmpty()){
+                return propertiesOf(parseChunk(chunk.toString()));
+            }
+            tasks.add(submitChunk(chunk));
+            return merge(tasks);
+        } finally {
+            tasks.forEach(task -> task.cancel(false));
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.github.sekelenao.smallyaml.internal.parsing;
+
+import io.github.sekelenao.smallyaml.api.exception.ErrorKind;
+import io.github.sekelenao.smallyaml.api.exception.document.DuplicatedPropertyException;
+import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
+
+/*
+ * Creates the exceptions thrown while parsing. Exceptions that are caught by the parser itself, as when every error of
+ * a document is reported, are created without stack trace because recording it dominates their cost.
+ */
+public final class ParsingExceptionFactory {
+
+    public static final ParsingExceptionFactory WITH_STACK_TRACES = new ParsingExceptionFactory(true);
+
+    public static final ParsingExceptionFactory WITHOUT_STACK_TRACES = new ParsingExceptionFactory(false);
+
+    private final boolean writableStackTrace;
+
+    private ParsingExceptionFactory(boolean writableStackTrace){
+        this.writableStackTrace = writableStackTrace;
+    }
+
+    public ParsingException wrongValue(String details, String value){
+        return ParsingException.of(ErrorKind.VALUE, details, value, writableStackTrace);
+    }
+
+    public ParsingException wrongKey(String details, String key){
+        return ParsingException.of(ErrorKind.KEY, details, key, writableStackTrace);
+    }
+
+    public ParsingException wrongIndentation(String details, String line){
+        return ParsingException.of(ErrorKind.INDENTATION, details, line, writableStackTrace);
+    }
+
+    public DuplicatedPropertyException duplicatedProperty(String key){
+        return DuplicatedPropertyException.forFollowing(key, writableStackTrace);
+    }
+
+}
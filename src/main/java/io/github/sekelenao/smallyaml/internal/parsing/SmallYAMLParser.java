@@ -1,8 +1,14 @@
 package io.github.sekelenao.smallyaml.internal.parsing;
 
+import io.github.sekelenao.smallyaml.api.document.ValidationError;
+import io.github.sekelenao.smallyaml.api.event.ParsingCollector;
+import io.github.sekelenao.smallyaml.api.exception.ErrorKind;
+import io.github.sekelenao.smallyaml.api.exception.SmallYAMLException;
+import io.github.sekelenao.smallyaml.api.exception.document.DuplicatedPropertyException;
 import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
 import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
-import io.github.sekelenao.smallyaml.internal.parsing.collector.ParsingCollector;
+import io.github.sekelenao.smallyaml.internal.collection.KeyHashSet;
+import io.github.sekelenao.smallyaml.internal.parsing.filter.KeyFilter;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.EmptyLine;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.KeyLine;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.KeyValueLine;
@@ -11,75 +17,271 @@ import io.github.sekelenao.smallyaml.internal.parsing.line.records.ListValueLine
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.LineRecordParser;
 
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
 
 public final class SmallYAMLParser {
 
-    private final LinkedList<KeyLine> previousKeys = new LinkedList<>();
+    private static final int NO_EXCLUDED_SCOPE = -1;
 
-    private final LineRecordParser lineRecordParser = new LineRecordParser();
+    private static final int NO_VALUE_DEPTH = -1;
+
+    private static final int NO_RECOVERY = Integer.MAX_VALUE;
+
+    private int[] scopeDepths = new int[8];
+
+    private String[] scopeKeys = new String[8];
+
+    private int amountOfScopes = 0;
+
+    private final ParsingExceptionFactory exceptionFactory;
+
+    private final LineRecordParser lineRecordParser;
 
     private Class<? extends Line> previousLineType;
 
-    private String generateKey(String... lastPart){
-        var keysStream = previousKeys.stream().map(KeyLine::key);
-        if (lastPart.length > 0) {
-            keysStream = Stream.concat(keysStream, Stream.of(lastPart));
+    private long lineNumber;
+
+    private final KeyFilter keyFilter;
+
+    private final boolean shouldExtractValues;
+
+    /*
+     * Index of the outermost scope under which no key is retained, values deeper than it are not extracted.
+     */
+    private int excludedScopeIndex = NO_EXCLUDED_SCOPE;
+
+    /*
+     * Keys that are not retained, only kept to detect duplicates. Hash hits are confirmed, so that filtered
+     * documents are rejected exactly when the whole document would be.
+     */
+    private final KeyHashSet excludedKeys = new KeyHashSet(true);
+
+    /*
+     * After an error, lines deeper than recoveryDepth are skipped, as well as list values while isSkippingListValues.
+     */
+    private int recoveryDepth = NO_RECOVERY;
+
+    private boolean isSkippingListValues;
+
+    public SmallYAMLParser(){
+        this(KeyFilter.ALL);
+    }
+
+    public SmallYAMLParser(KeyFilter keyFilter){
+        this(keyFilter, true);
+    }
+
+    /*
+     * Without value extraction, values are validated and collected as LineRecordParser.SKIPPED_VALUE.
+     */
+    public SmallYAMLParser(KeyFilter keyFilter, boolean shouldExtractValues){
+        this(keyFilter, shouldExtractValues, ParsingExceptionFactory.WITH_STACK_TRACES);
+    }
+
+    public SmallYAMLParser(KeyFilter keyFilter, boolean shouldExtractValues, ParsingExceptionFactory exceptionFactory){
+        Objects.requireNonNull(keyFilter);
+        Objects.requireNonNull(exceptionFactory);
+        this.keyFilter = keyFilter;
+        this.shouldExtractValues = shouldExtractValues;
+        this.exceptionFactory = exceptionFactory;
+        this.lineRecordParser = new LineRecordParser(exceptionFactory);
+    }
+
+    private int maximumValueDepth(){
+        if(!shouldExtractValues){
+            return NO_VALUE_DEPTH;
+        }
+        return excludedScopeIndex == NO_EXCLUDED_SCOPE ? Integer.MAX_VALUE : scopeDepths[excludedScopeIndex];
+    }
+
+    private String currentScopeKey(){
+        return scopeKeys[amountOfScopes - 1];
+    }
+
+    private String generateKey(String lastPart){
+        if(amountOfScopes == 0){
+            return lastPart;
         }
-        return keysStream.collect(Collectors.joining("."));
+        return currentScopeKey() + '.' + lastPart;
     }
 
     private void checkDepthAndUpdateContext(int depth, String key){
-        while (!previousKeys.isEmpty() && depth <= previousKeys.getLast().depth()){
-            previousKeys.removeLast();
+        while (amountOfScopes > 0 && depth <= scopeDepths[amountOfScopes - 1]){
+            scopeKeys[--amountOfScopes] = null;
         }
-        if(previousKeys.isEmpty() && depth > 0){
-            throw ParsingException.wrongIndentation("first key should start at indentation 0", key);
+        if(amountOfScopes <= excludedScopeIndex){
+            excludedScopeIndex = NO_EXCLUDED_SCOPE;
+        }
+        if(amountOfScopes == 0 && depth > 0){
+            throw exceptionFactory.wrongIndentation("first key should start at indentation 0", key);
         }
     }
 
-    private void onKeyLine(KeyLine keyLine){
+    private void onKeyLine(KeyLine keyLine, ParsingCollector collector){
         checkDepthAndUpdateContext(keyLine.depth(), keyLine.key());
-        previousKeys.addLast(keyLine);
+        var scopeKey = generateKey(keyLine.key());
+        if(amountOfScopes == scopeKeys.length){
+            scopeDepths = Arrays.copyOf(scopeDepths, amountOfScopes * 2);
+            scopeKeys = Arrays.copyOf(scopeKeys, amountOfScopes * 2);
+        }
+        scopeDepths[amountOfScopes] = keyLine.depth();
+        scopeKeys[amountOfScopes++] = scopeKey;
+        if(excludedScopeIndex == NO_EXCLUDED_SCOPE && !keyFilter.mayRetainUnder(scopeKey)){
+            excludedScopeIndex = amountOfScopes - 1;
+        }
+        collector.collectKey(scopeKey);
+    }
+
+    private boolean isListValueExpected(){
+        return previousLineType == KeyLine.class || previousLineType == ListValueLine.class;
     }
 
     private void onListValueLine(ListValueLine listValueLine, ParsingCollector collector){
-        if(previousLineType != KeyLine.class && previousLineType != ListValueLine.class){
-            throw ParsingException.wrongValue("no key to attach", "- " + listValueLine.value());
+        if(!isListValueExpected()){
+            throw exceptionFactory.wrongValue("no key to attach", "- " + listValueLine.value());
+        }
+        var key = currentScopeKey();
+        var isNewList = previousLineType != ListValueLine.class;
+        if(keyFilter.retains(key)){
+            collector.collectListValue(key, listValueLine.value(), isNewList);
+        } else if(isNewList){
+            exclude(key);
         }
-        collector.collectListValue(generateKey(), listValueLine.value(), previousLineType != ListValueLine.class);
     }
 
     private void onKeyValueLine(KeyValueLine keyValueLine, ParsingCollector collector){
         checkDepthAndUpdateContext(keyValueLine.depth(), keyValueLine.key());
-        collector.collectSingleValue(generateKey(keyValueLine.key()), keyValueLine.value());
+        var key = generateKey(keyValueLine.key());
+        if(keyFilter.retains(key)){
+            collector.collectSingleValue(key, keyValueLine.value());
+        } else {
+            exclude(key);
+        }
+    }
+
+    private void exclude(String key){
+        if(!excludedKeys.add(key)){
+            throw exceptionFactory.duplicatedProperty(key);
+        }
+    }
+
+    private Line parseRawLine(CharSequence rawLine){
+        lineNumber++;
+        var maximumValueDepth = maximumValueDepth();
+        // Unexpected list values are extracted, because the error message contains them
+        var maximumListValueDepth = isListValueExpected() ? maximumValueDepth : Integer.MAX_VALUE;
+        return lineRecordParser.parse(rawLine, maximumValueDepth, maximumListValueDepth);
+    }
+
+    private void onLine(Line line, ParsingCollector collector){
+        switch (line){
+            case EmptyLine ignored -> {/* do nothing */}
+            case KeyLine keyLine -> {
+                onKeyLine(keyLine, collector);
+                previousLineType = KeyLine.class;
+            }
+            case ListValueLine listValueLine -> {
+                onListValueLine(listValueLine, collector);
+                previousLineType = ListValueLine.class;
+            }
+            case KeyValueLine keyValueLine -> {
+                onKeyValueLine(keyValueLine, collector);
+                previousLineType =  KeyValueLine.class;
+            }
+        }
+    }
+
+    /*
+     * Parses the next line of the provider, returns false when there is no more line to parse.
+     */
+    public boolean parseLine(LineProvider lineProvider, ParsingCollector collector) throws IOException {
+        Objects.requireNonNull(lineProvider);
+        Objects.requireNonNull(collector);
+        if(!lineProvider.hasNext()){
+            return false;
+        }
+        onLine(parseRawLine(lineProvider.nextSequence()), collector);
+        return true;
     }
 
     public void parse(LineProvider lineProvider, ParsingCollector collector) throws IOException {
         Objects.requireNonNull(lineProvider);
         Objects.requireNonNull(collector);
+        while (parseLine(lineProvider, collector)){
+            /* every line is parsed */
+        }
+    }
+
+    /*
+     * Lines following an error that depend on the faulty line, which are the deeper ones and the list values, are
+     * only checked on their own, so that a single mistake is not reported once per line of its block.
+     */
+    private boolean isSkippedAfterError(Line line){
+        if(line == EmptyLine.SINGLE_INSTANCE || lineRecordParser.lastDepth() > recoveryDepth
+            || (isSkippingListValues && line instanceof ListValueLine)){
+            return true;
+        }
+        recoveryDepth = NO_RECOVERY;
+        isSkippingListValues = false;
+        return false;
+    }
+
+    private void report(ErrorKind kind, SmallYAMLException exception, Consumer<ValidationError> errorHandler){
+        errorHandler.accept(new ValidationError(lineNumber, lineRecordParser.lastColumn() + 1, kind, exception.getMessage()));
+    }
+
+    private void onError(ErrorKind kind, SmallYAMLException exception, Consumer<ValidationError> errorHandler){
+        report(kind, exception, errorHandler);
+        if(recoveryDepth == NO_RECOVERY && lineRecordParser.lastDepth() != LineRecordParser.NOT_RELEVANT){
+            recoveryDepth = lineRecordParser.lastDepth();
+        }
+        isSkippingListValues = true;
+        previousLineType = null;
+    }
+
+    /*
+     * A line holding a duplicated property is well-formed, so the lines following it are checked as usual, except the
+     * next list values that belong to the rejected key.
+     */
+    private void onLineReportingDuplicates(Line line, ParsingCollector collector, Consumer<ValidationError> errorHandler){
+        try {
+            onLine(line, collector);
+        } catch (DuplicatedPropertyException exception) {
+            report(ErrorKind.DUPLICATED_PROPERTY, exception, errorHandler);
+            isSkippingListValues = line instanceof ListValueLine;
+            previousLineType = line.getClass();
+        }
+    }
+
+    /*
+     * Parses every line of the provider, errors are given to the handler instead of being thrown.
+     */
+    public void parseCollectingErrors(
+        LineProvider lineProvider, ParsingCollector collector, Consumer<ValidationError> errorHandler
+    ) throws IOException {
+        Objects.requireNonNull(lineProvider);
+        Objects.requireNonNull(collector);
+        Objects.requireNonNull(errorHandler);
         while (lineProvider.hasNext()){
-            var line = lineRecordParser.parse(lineProvider.next());
-            switch (line){
-                case EmptyLine ignored -> {/* do nothing */}
-                case KeyLine keyLine -> {
-                    onKeyLine(keyLine);
-                    previousLineType = KeyLine.class;
-                }
-                case ListValueLine listValueLine -> {
-                    onListValueLine(listValueLine, collector);
-                    previousLineType = ListValueLine.class;
-                }
-                case KeyValueLine keyValueLine -> {
-                    onKeyValueLine(keyValueLine, collector);
-                    previousLineType =  KeyValueLine.class;
+            var rawLine = lineProvider.nextSequence();
+            try {
+                var line = parseRawLine(rawLine);
+                if(!isSkippingListValues || !isSkippedAfterError(line)){
+                    onLineReportingDuplicates(line, collector, errorHandler);
                 }
+            } catch (ParsingException exception) {
+                onError(exception.kind(), exception, errorHandler);
             }
         }
     }
 
+    /*
+     * Returns the number of the last parsed line, starting at 1.
+     */
+    public long lineNumber(){
+        return lineNumber;
+    }
 
 }
@@ -1,5 +1,6 @@
 package io.github.sekelenao.smallyaml.internal.parsing.collector;
 
+import io.github.sekelenao.smallyaml.api.event.ParsingCollector;
 import io.github.sekelenao.smallyaml.api.exception.document.DuplicatedPropertyException;
 import io.github.sekelenao.smallyaml.internal.collection.ValueList;
 
@@ -0,0 +1,61 @@
+package io.github.sekelenao.smallyaml.internal.parsing.collector;
+
+import io.github.sekelenao.smallyaml.api.event.ParsingCollector;
+import io.github.sekelenao.smallyaml.internal.collection.KeyHashSet;
+import io.github.sekelenao.smallyaml.internal.parsing.ParsingExceptionFactory;
+
+import java.util.Objects;
+
+/*
+ * Only checks that properties are unique, values are ignored and keys are kept as hashes.
+ */
+public final class ValidatingParsingCollector implements ParsingCollector {
+
+    private final KeyHashSet keys = new KeyHashSet();
+
+    private final ParsingExceptionFactory exceptionFactory;
+
+    private int amountOfSingleValueProperties;
+
+    private int amountOfMultipleValuesProperties;
+
+    public ValidatingParsingCollector(){
+        this(ParsingExceptionFactory.WITH_STACK_TRACES);
+    }
+
+    public ValidatingParsingCollector(ParsingExceptionFactory exceptionFactory){
+        Objects.requireNonNull(exceptionFactory);
+        this.exceptionFactory = exceptionFactory;
+    }
+
+    private void add(String key){
+        if(!keys.add(key)){
+            throw exceptionFactory.duplicatedProperty(key);
+        }
+    }
+
+    @Override
+    public void collectSingleValue(String key, String value) {
+        Objects.requireNonNull(key);
+        add(key);
+        amountOfSingleValueProperties++;
+    }
+
+    @Override
+    public void collectListValue(String key, String value, boolean isNewList) {
+        Objects.requireNonNull(key);
+        if(isNewList){
+            add(key);
+            amountOfMultipleValuesProperties++;
+        }
+    }
+
+    public int amountOfSingleValueProperties() {
+        return amountOfSingleValueProperties;
+    }
+
+    public int amountOfMultipleValuesProperties() {
+        return amountOfMultipleValuesProperties;
+    }
+
+}
@@ -0,0 +1,18 @@
+package io.github.sekelenao.smallyaml.internal.parsing.filter;
+
+/*
+ * Selects the properties kept while parsing. Keys are full key paths, in lower case like the parsed keys.
+ */
+public sealed interface KeyFilter permits PredicateKeyFilter, PrefixKeyFilter {
+
+    KeyFilter ALL = new PredicateKeyFilter(key -> true);
+
+    boolean retains(String key);
+
+    /*
+     * Returns false only if no key under the given scope can be retained, so that the values of the scope
+     * do not need to be extracted.
+     */
+    boolean mayRetainUnder(String scopeKey);
+
+}
@@ -0,0 +1,25 @@
+package io.github.sekelenao.smallyaml.internal.parsing.filter;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+public record PredicateKeyFilter(Predicate<String> predicate) implements KeyFilter {
+
+    public PredicateKeyFilter {
+        Objects.requireNonNull(predicate);
+    }
+
+    @Override
+    public boolean retains(String key) {
+        return predicate.test(key);
+    }
+
+    /*
+     * Any key can be accepted by an arbitrary predicate.
+     */
+    @Override
+    public boolean mayRetainUnder(String scopeKey) {
+        return true;
+    }
+
+}
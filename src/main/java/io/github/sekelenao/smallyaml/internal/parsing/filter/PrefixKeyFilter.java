@@ -0,0 +1,55 @@
+package io.github.sekelenao.smallyaml.internal.parsing.filter;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+
+/*
+ * Retains a key if it is one of the prefixes or if it is under one of them: the prefix "db" retains "db"
+ * and "db.host", but not "dbx". Prefix sets are expected to be small, so they are scanned linearly
+ * without creating any string.
+ */
+public final class PrefixKeyFilter implements KeyFilter {
+
+    private final String[] prefixes;
+
+    public PrefixKeyFilter(Collection<String> prefixes) {
+        Objects.requireNonNull(prefixes);
+        this.prefixes = prefixes.stream()
+            .map(prefix -> {
+                Objects.requireNonNull(prefix);
+                if(prefix.isEmpty()){
+                    throw new IllegalArgumentException("Prefix should not be empty");
+                }
+                return prefix.toLowerCase(Locale.ROOT);
+            })
+            .distinct()
+            .toArray(String[]::new);
+    }
+
+    private static boolean isUnder(String key, String scopeKey) {
+        return key.length() == scopeKey.length() ? key.equals(scopeKey)
+            : key.length() > scopeKey.length() && key.charAt(scopeKey.length()) == '.' && key.startsWith(scopeKey);
+    }
+
+    @Override
+    public boolean retains(String key) {
+        for (var prefix : prefixes) {
+            if(isUnder(key, prefix)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean mayRetainUnder(String scopeKey) {
+        for (var prefix : prefixes) {
+            if(isUnder(scopeKey, prefix) || isUnder(prefix, scopeKey)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.github.sekelenao.smallyaml.internal.parsing.line.provider;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Window over a line of a byte buffer made of ASCII bytes only, read in place.
+ */
+final class AsciiBufferLineWindow extends LineWindow {
+
+    private ByteBuffer bytes = ByteBuffer.allocate(0);
+
+    AsciiBufferLineWindow reset(ByteBuffer bytes, int start, int end){
+        this.bytes = bytes;
+        resetBounds(start, end);
+        return this;
+    }
+
+    @Override
+    char characterAt(int index) {
+        return (char) bytes.get(index);
+    }
+
+    @Override
+    String materialize(int from, int to) {
+        var copy = new byte[to - from];
+        bytes.get(from, copy);
+        return new String(copy, StandardCharsets.ISO_8859_1);
+    }
+
+}
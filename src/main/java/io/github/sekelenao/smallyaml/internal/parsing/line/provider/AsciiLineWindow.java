@@ -0,0 +1,28 @@
+package io.github.sekelenao.smallyaml.internal.parsing.line.provider;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Window over a line made of ASCII bytes only.
+ */
+final class AsciiLineWindow extends LineWindow {
+
+    private byte[] bytes = new byte[0];
+
+    AsciiLineWindow reset(byte[] bytes, int start, int end){
+        this.bytes = bytes;
+        resetBounds(start, end);
+        return this;
+    }
+
+    @Override
+    char characterAt(int index) {
+        return (char) bytes[index];
+    }
+
+    @Override
+    String materialize(int from, int to) {
+        return new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+    }
+
+}
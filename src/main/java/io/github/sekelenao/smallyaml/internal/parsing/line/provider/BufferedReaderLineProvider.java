@@ -1,39 +1,127 @@
 package io.github.sekelenao.smallyaml.internal.parsing.line.provider;
 
 import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.internal.parsing.line.scanner.BufferScanner;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
+/*
+ * Reads characters in bulk and splits them into lines like BufferedReader::readLine, so that lines can be
+ * returned as windows over the character buffer and comment or blank lines never become strings.
+ */
 public final class BufferedReaderLineProvider implements LineProvider, AutoCloseable {
 
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final BufferScanner SCANNER = BufferScanner.best();
+
     private final BufferedReader bufferedReader;
 
-    private String nextLine;
+    private final CharArrayLineWindow lineWindow = new CharArrayLineWindow();
+
+    private char[] buffer = new char[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    private boolean isEndOfStream;
+
+    private boolean shouldSkipLineFeed;
+
+    private boolean hasPendingLine;
+
+    private int lineStart;
+
+    private int lineEnd;
 
     public BufferedReaderLineProvider(BufferedReader bufferedReader){
         Objects.requireNonNull(bufferedReader);
         this.bufferedReader = bufferedReader;
     }
 
-    @Override
-    public boolean hasNext() throws IOException{
-        if(nextLine == null){
-            nextLine = bufferedReader.readLine();
+    private boolean fill() throws IOException {
+        if(isEndOfStream){
+            return false;
+        }
+        if(position > 0){
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
         }
-        return nextLine != null;
+        if(limit == buffer.length){
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        var amountOfReadCharacters = bufferedReader.read(buffer, limit, buffer.length - limit);
+        if(amountOfReadCharacters == -1){
+            isEndOfStream = true;
+            return false;
+        }
+        limit += amountOfReadCharacters;
+        return true;
     }
 
-    @Override
-    public String next() throws IOException {
+    private void pendLine(int end){
+        lineStart = position;
+        lineEnd = end;
+        hasPendingLine = true;
+    }
+
+    private boolean findLine() throws IOException {
+        var amountOfScannedCharacters = 0;
+        while (true){
+            if(position + amountOfScannedCharacters == limit && !fill()){
+                if(amountOfScannedCharacters == 0){
+                    return false;
+                }
+                pendLine(limit);
+                position = limit;
+                return true;
+            }
+            if(shouldSkipLineFeed){
+                shouldSkipLineFeed = false;
+                if(buffer[position] == '\n'){
+                    position++;
+                    continue;
+                }
+            }
+            var index = SCANNER.indexOfLineBreak(buffer, position + amountOfScannedCharacters, limit);
+            if(index != -1){
+                pendLine(index);
+                position = index + 1;
+                shouldSkipLineFeed = buffer[index] == '\r';
+                return true;
+            }
+            amountOfScannedCharacters = limit - position;
+        }
+    }
+
+    private void consumeLine() throws IOException {
         if(!hasNext()){
             throw new NoSuchElementException();
         }
-        var current = nextLine;
-        nextLine = null;
-        return current;
+        hasPendingLine = false;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException{
+        return hasPendingLine || findLine();
+    }
+
+    @Override
+    public String next() throws IOException {
+        consumeLine();
+        return new String(buffer, lineStart, lineEnd - lineStart);
+    }
+
+    @Override
+    public CharSequence nextSequence() throws IOException {
+        consumeLine();
+        return lineWindow.reset(buffer, lineStart, lineEnd);
     }
 
     @Override
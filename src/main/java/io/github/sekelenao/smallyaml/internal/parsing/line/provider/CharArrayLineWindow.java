@@ -0,0 +1,26 @@
+package io.github.sekelenao.smallyaml.internal.parsing.line.provider;
+
+/*
+ * Window over a line of a character buffer.
+ */
+final class CharArrayLineWindow extends LineWindow {
+
+    private char[] characters = new char[0];
+
+    CharArrayLineWindow reset(char[] characters, int start, int end){
+        this.characters = characters;
+        resetBounds(start, end);
+        return this;
+    }
+
+    @Override
+    char characterAt(int index) {
+        return characters[index];
+    }
+
+    @Override
+    String materialize(int from, int to) {
+        return new String(characters, from, to - from);
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.github.sekelenao.smallyaml.internal.parsing.line.provider;
+
+import java.util.Objects;
+
+/*
+ * Reusable view over a line of a buffer, sub-sequences are materialized as strings. Bounds are checked
+ * against the line here, subclasses only read their buffer at absolute indexes.
+ */
+abstract sealed class LineWindow implements CharSequence
+    permits AsciiLineWindow, AsciiBufferLineWindow, CharArrayLineWindow, StringLineWindow {
+
+    private int start;
+
+    private int length;
+
+    final void resetBounds(int start, int end){
+        this.start = start;
+        this.length = end - start;
+    }
+
+    /*
+     * Returns the character at the given index of the buffer.
+     */
+    abstract char characterAt(int index);
+
+    /*
+     * Returns the characters of the buffer between from (inclusive) and to (exclusive).
+     */
+    abstract String materialize(int from, int to);
+
+    @Override
+    public final int length() {
+        return length;
+    }
+
+    @Override
+    public final char charAt(int index) {
+        Objects.checkIndex(index, length);
+        return characterAt(start + index);
+    }
+
+    @Override
+    public final String subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return materialize(this.start + start, this.start + end);
+    }
+
+    @Override
+    public final String toString() {
+        return materialize(start, start + length);
+    }
+
+}
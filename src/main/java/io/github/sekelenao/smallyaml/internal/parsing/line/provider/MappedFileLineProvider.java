@@ -0,0 +1,206 @@
+package io.github.sekelenao.smallyaml.internal.parsing.line.provider;
+
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.internal.parsing.line.scanner.BufferScanner;
+import io.github.sekelenao.smallyaml.internal.util.Assertions;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/*
+ * Reads a UTF-8 file through read-only memory-mapped regions, which are scanned in place: only the returned
+ * lines are copied out of the mapping, and ASCII lines are not even copied by nextSequence. A mapped buffer
+ * cannot exceed 2 GB, so bigger files are mapped region by region, each region starting at the line being read.
+ * Line breaks and malformed input are handled like in Utf8LineProvider.
+ */
+public final class MappedFileLineProvider implements LineProvider {
+
+    private static final BufferScanner SCANNER = BufferScanner.best();
+
+    private static final int DEFAULT_REGION_SIZE = 1 << 30;
+
+    private final FileChannel fileChannel;
+
+    private final long fileSize;
+
+    private final int regionSize;
+
+    private final AsciiBufferLineWindow asciiLineWindow = new AsciiBufferLineWindow();
+
+    private byte[] lineBytes = new byte[0];
+
+    // Null once closed, the mapping is released when it is no longer reachable
+    private MappedByteBuffer region;
+
+    private long regionStart;
+
+    private int position;
+
+    private boolean shouldSkipLineFeed;
+
+    private boolean hasPendingLine;
+
+    private int lineStart;
+
+    private int lineEnd;
+
+    private boolean isAsciiLine;
+
+    public MappedFileLineProvider(Path path) throws IOException {
+        this(path, DEFAULT_REGION_SIZE);
+    }
+
+    public MappedFileLineProvider(Path path, int regionSize) throws IOException {
+        Objects.requireNonNull(path);
+        Assertions.isStrictlyPositive(regionSize);
+        this.regionSize = regionSize;
+        this.fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.fileSize = fileChannel.size();
+            map(0, regionSize);
+        } catch (IOException | RuntimeException exception) {
+            try {
+                fileChannel.close();
+            } catch (IOException closingException) {
+                exception.addSuppressed(closingException);
+            }
+            throw exception;
+        }
+    }
+
+    private void map(long start, int size) throws IOException {
+        region = fileChannel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(size, fileSize - start));
+        region.order(ByteOrder.LITTLE_ENDIAN);
+        regionStart = start;
+        position = 0;
+    }
+
+    /*
+     * Maps the next region from the start of the current line, and returns the amount of bytes of the line
+     * that were already scanned, or -1 at the end of the file. The region grows when the line does not fit.
+     */
+    private int remap() throws IOException {
+        var limit = region.limit();
+        if(regionStart + limit == fileSize){
+            return -1;
+        }
+        var amountOfScannedBytes = limit - position;
+        if(amountOfScannedBytes == Integer.MAX_VALUE){
+            throw new IOException("A line of the file does not fit in a mapped region of 2 GB");
+        }
+        var size = amountOfScannedBytes < regionSize
+            ? regionSize
+            : (int) Math.min(2L * amountOfScannedBytes, Integer.MAX_VALUE);
+        map(regionStart + position, size);
+        return amountOfScannedBytes;
+    }
+
+    private void pendLine(int end, boolean isAscii){
+        lineStart = position;
+        lineEnd = end;
+        isAsciiLine = isAscii;
+        hasPendingLine = true;
+    }
+
+    private boolean findLine() throws IOException {
+        var index = position;
+        var isAscii = true;
+        while (true){
+            if(index == region.limit()){
+                var amountOfScannedBytes = remap();
+                if(amountOfScannedBytes == -1){
+                    if(index == position){
+                        return false;
+                    }
+                    pendLine(index, isAscii);
+                    position = index;
+                    return true;
+                }
+                index = amountOfScannedBytes;
+                continue;
+            }
+            if(shouldSkipLineFeed){
+                shouldSkipLineFeed = false;
+                if(region.get(position) == '\n'){
+                    index = ++position;
+                    continue;
+                }
+            }
+            index = isAscii
+                ? SCANNER.indexOfLineBreakOrNonAscii(region, index, region.limit())
+                : SCANNER.indexOfLineBreak(region, index, region.limit());
+            if(index == -1){
+                index = region.limit();
+                continue;
+            }
+            var currentByte = region.get(index);
+            if(currentByte < 0){
+                isAscii = false;
+                index++;
+                continue;
+            }
+            pendLine(index, isAscii);
+            position = index + 1;
+            shouldSkipLineFeed = currentByte == '\r';
+            return true;
+        }
+    }
+
+    private void consumeLine() throws IOException {
+        if(!hasNext()){
+            throw new NoSuchElementException();
+        }
+        hasPendingLine = false;
+    }
+
+    private String decodeLine(){
+        var length = lineEnd - lineStart;
+        if(lineBytes.length < length){
+            lineBytes = new byte[Math.max(length, lineBytes.length * 2)];
+        }
+        region.get(lineStart, lineBytes, 0, length);
+        var charset = isAsciiLine ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8;
+        return new String(lineBytes, 0, length, charset);
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if(region == null){
+            throw new ClosedChannelException();
+        }
+        return hasPendingLine || findLine();
+    }
+
+    @Override
+    public String next() throws IOException {
+        consumeLine();
+        return decodeLine();
+    }
+
+    /*
+     * ASCII lines are returned as a window over the mapped region, the other lines are decoded.
+     */
+    @Override
+    public CharSequence nextSequence() throws IOException {
+        consumeLine();
+        if(isAsciiLine){
+            return asciiLineWindow.reset(region, lineStart, lineEnd);
+        }
+        return decodeLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        fileChannel.close();
+    }
+
+}
@@ -9,8 +9,14 @@ public final class StringLineProvider implements LineProvider {
 
     private final String text;
 
+    private final StringLineWindow lineWindow = new StringLineWindow();
+
     private int index;
 
+    private int lineStart;
+
+    private int lineEnd;
+
     public StringLineProvider(String text) {
         Objects.requireNonNull(text);
         this.text = text;
@@ -21,20 +27,35 @@ public final class StringLineProvider implements LineProvider {
         return index < text.length();
     }
 
-    @Override
-    public String next() {
+    private void advance(){
         if(!hasNext()){
             throw new NoSuchElementException();
         }
-        var line = new StringBuilder();
-        while(index < text.length()){
-            var currentChar = text.charAt(index++);
-            if(currentChar == '\n'){
-                return line.toString();
-            }
-            line.append(currentChar);
+        lineStart = index;
+        var lineFeedIndex = text.indexOf('\n', lineStart);
+        if(lineFeedIndex == -1){
+            index = text.length();
+            lineEnd = index;
+            return;
+        }
+        index = lineFeedIndex + 1;
+        if(lineFeedIndex > lineStart && text.charAt(lineFeedIndex - 1) == '\r'){
+            lineEnd = lineFeedIndex - 1;
+            return;
         }
-        return line.toString();
+        lineEnd = lineFeedIndex;
+    }
+
+    @Override
+    public String next() {
+        advance();
+        return text.substring(lineStart, lineEnd);
+    }
+
+    @Override
+    public CharSequence nextSequence() {
+        advance();
+        return lineWindow.reset(text, lineStart, lineEnd);
     }
 
 }
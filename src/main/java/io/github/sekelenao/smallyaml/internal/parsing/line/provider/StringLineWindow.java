@@ -0,0 +1,26 @@
+package io.github.sekelenao.smallyaml.internal.parsing.line.provider;
+
+/*
+ * Window over a line of a text.
+ */
+final class StringLineWindow extends LineWindow {
+
+    private String text = "";
+
+    StringLineWindow reset(String text, int start, int end){
+        this.text = text;
+        resetBounds(start, end);
+        return this;
+    }
+
+    @Override
+    char characterAt(int index) {
+        return text.charAt(index);
+    }
+
+    @Override
+    String materialize(int from, int to) {
+        return text.substring(from, to);
+    }
+
+}
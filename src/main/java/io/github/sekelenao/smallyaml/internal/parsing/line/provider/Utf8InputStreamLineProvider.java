@@ -0,0 +1,29 @@
+package io.github.sekelenao.smallyaml.internal.parsing.line.provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+public final class Utf8InputStreamLineProvider extends Utf8LineProvider {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream inputStream;
+
+    public Utf8InputStreamLineProvider(InputStream inputStream){
+        super(BUFFER_SIZE);
+        Objects.requireNonNull(inputStream);
+        this.inputStream = inputStream;
+    }
+
+    @Override
+    int read(byte[] buffer, int offset, int length) throws IOException {
+        return inputStream.read(buffer, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+}
@@ -0,0 +1,151 @@
+package io.github.sekelenao.smallyaml.internal.parsing.line.provider;
+
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.internal.parsing.line.scanner.BufferScanner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/*
+ * Splits UTF-8 bytes into lines without going through a Reader. Line breaks are '\n', '\r' or "\r\n",
+ * like BufferedReader::readLine. Lines made of ASCII bytes only are copied as Latin-1 strings,
+ * the other ones are decoded as UTF-8, with the same replacement of malformed input as InputStreamReader.
+ */
+public abstract sealed class Utf8LineProvider implements LineProvider
+    permits Utf8InputStreamLineProvider {
+
+    private static final BufferScanner SCANNER = BufferScanner.best();
+
+    private byte[] buffer;
+
+    private int position;
+
+    private int limit;
+
+    private boolean isEndOfStream;
+
+    private boolean shouldSkipLineFeed;
+
+    private final AsciiLineWindow asciiLineWindow = new AsciiLineWindow();
+
+    private boolean hasPendingLine;
+
+    private int lineStart;
+
+    private int lineEnd;
+
+    private boolean isAsciiLine;
+
+    Utf8LineProvider(int bufferSize){
+        this.buffer = new byte[bufferSize];
+    }
+
+    /*
+     * Reads at most length bytes into the buffer, like InputStream::read, returns -1 at the end of the source.
+     */
+    abstract int read(byte[] buffer, int offset, int length) throws IOException;
+
+    private boolean fill() throws IOException {
+        if(isEndOfStream){
+            return false;
+        }
+        if(position > 0){
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if(limit == buffer.length){
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        var amountOfReadBytes = read(buffer, limit, buffer.length - limit);
+        if(amountOfReadBytes == -1){
+            isEndOfStream = true;
+            return false;
+        }
+        limit += amountOfReadBytes;
+        return true;
+    }
+
+    private void pendLine(int end, boolean isAscii){
+        lineStart = position;
+        lineEnd = end;
+        isAsciiLine = isAscii;
+        hasPendingLine = true;
+    }
+
+    private boolean findLine() throws IOException {
+        var amountOfScannedBytes = 0;
+        var isAscii = true;
+        while (true){
+            if(position + amountOfScannedBytes == limit && !fill()){
+                if(amountOfScannedBytes == 0){
+                    return false;
+                }
+                pendLine(limit, isAscii);
+                position = limit;
+                return true;
+            }
+            if(shouldSkipLineFeed){
+                shouldSkipLineFeed = false;
+                if(buffer[position] == '\n'){
+                    position++;
+                    continue;
+                }
+            }
+            var index = position + amountOfScannedBytes;
+            while (true){
+                index = isAscii
+                    ? SCANNER.indexOfLineBreakOrNonAscii(buffer, index, limit)
+                    : SCANNER.indexOfLineBreak(buffer, index, limit);
+                if(index == -1){
+                    break;
+                }
+                var currentByte = buffer[index];
+                if(currentByte < 0){
+                    isAscii = false;
+                    index++;
+                    continue;
+                }
+                pendLine(index, isAscii);
+                position = index + 1;
+                shouldSkipLineFeed = currentByte == '\r';
+                return true;
+            }
+            amountOfScannedBytes = limit - position;
+        }
+    }
+
+    private void consumeLine() throws IOException {
+        if(!hasNext()){
+            throw new NoSuchElementException();
+        }
+        hasPendingLine = false;
+    }
+
+    @Override
+    public final boolean hasNext() throws IOException {
+        return hasPendingLine || findLine();
+    }
+
+    @Override
+    public final String next() throws IOException {
+        consumeLine();
+        var charset = isAsciiLine ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8;
+        return new String(buffer, lineStart, lineEnd - lineStart, charset);
+    }
+
+    /*
+     * ASCII lines are returned as a window over the buffer, the other lines are decoded.
+     */
+    @Override
+    public final CharSequence nextSequence() throws IOException {
+        consumeLine();
+        if(isAsciiLine){
+            return asciiLineWindow.reset(buffer, lineStart, lineEnd);
+        }
+        return new String(buffer, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+    }
+
+}
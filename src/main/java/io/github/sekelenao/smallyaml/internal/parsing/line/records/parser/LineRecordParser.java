@@ -1,6 +1,6 @@
 package io.github.sekelenao.smallyaml.internal.parsing.line.records.parser;
 
-import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
+import io.github.sekelenao.smallyaml.internal.parsing.ParsingExceptionFactory;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.EmptyLine;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.KeyLine;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.KeyValueLine;
@@ -8,7 +8,6 @@ import io.github.sekelenao.smallyaml.internal.parsing.line.records.Line;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.ListValueLine;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.string.KeyParser;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.string.ValueParser;
-import io.github.sekelenao.smallyaml.internal.util.Assertions;
 
 import java.util.Objects;
 
@@ -16,72 +15,158 @@ public final class LineRecordParser {
 
     private static final char COMMENT_SYMBOL = '#';
 
-    private final KeyParser keyParser = new KeyParser();
+    private final ParsingExceptionFactory exceptionFactory;
 
-    private final ValueParser valueParser = new ValueParser();
+    private final KeyParser keyParser;
 
-    private record LineStructure(int amountOfLeadingSpaces, boolean isNotRelevant) {
+    private final ValueParser valueParser;
 
-        private LineStructure {
-            Assertions.isPositiveOrZero(amountOfLeadingSpaces);
-        }
+    public static final int NOT_RELEVANT = -1;
+
+    /*
+     * Replaces the values that are validated but not extracted.
+     */
+    public static final String SKIPPED_VALUE = "";
+
+    private int lastDepth = NOT_RELEVANT;
+
+    private int lastColumn;
 
+    public LineRecordParser() {
+        this(ParsingExceptionFactory.WITH_STACK_TRACES);
     }
 
-    private static LineStructure computeDescription(String rawLine) {
-        int index = 0;
-        var encounteredWrongWhitespace = false;
-        for (; index < rawLine.length(); index++) {
+    public LineRecordParser(ParsingExceptionFactory exceptionFactory) {
+        Objects.requireNonNull(exceptionFactory);
+        this.exceptionFactory = exceptionFactory;
+        this.keyParser = new KeyParser(exceptionFactory);
+        this.valueParser = new ValueParser(exceptionFactory);
+    }
+
+    /*
+     * Returns the amount of leading spaces of the line, or NOT_RELEVANT for blank and comment lines.
+     */
+    private int computeDescription(CharSequence rawLine) {
+        var firstWrongWhitespace = NOT_RELEVANT;
+        for (var index = 0; index < rawLine.length(); index++) {
             var character = rawLine.charAt(index);
             if (!Character.isWhitespace(character)) {
-                var isComment = character == COMMENT_SYMBOL;
-                if(encounteredWrongWhitespace && !isComment){
-                    throw ParsingException.wrongIndentation("unexpected whitespace character", rawLine);
+                if (character == COMMENT_SYMBOL) {
+                    return NOT_RELEVANT;
+                }
+                if(firstWrongWhitespace != NOT_RELEVANT){
+                    lastColumn = firstWrongWhitespace;
+                    throw exceptionFactory.wrongIndentation("unexpected whitespace character", rawLine.toString());
                 }
-                return new LineStructure(index, isComment);
+                return index;
             }
-            if (character != ' ') {
-                encounteredWrongWhitespace = true;
+            if (character != ' ' && firstWrongWhitespace == NOT_RELEVANT) {
+                firstWrongWhitespace = index;
             }
         }
-        return new LineStructure(index, true);
+        return NOT_RELEVANT;
+    }
+
+    private static int indexOf(CharSequence rawLine, char character, int fromIndex) {
+        for (var index = fromIndex; index < rawLine.length(); index++) {
+            if (rawLine.charAt(index) == character) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static String slice(CharSequence rawLine, int start, int end) {
+        return rawLine.subSequence(start, end).toString();
+    }
+
+    /*
+     * Errors on the value point at its first character, or at the end of the line when the value is empty.
+     */
+    private String parseValue(CharSequence rawLine, int start, int end, boolean shouldBeExtracted) {
+        var valueStart = start;
+        while (valueStart < rawLine.length() && rawLine.charAt(valueStart) <= ' ') {
+            valueStart++;
+        }
+        lastColumn = valueStart;
+        if(shouldBeExtracted){
+            return valueParser.parse(rawLine, start, end);
+        }
+        valueParser.validate(rawLine, start, end);
+        return SKIPPED_VALUE;
     }
 
-    public Line parse(String rawLine) {
+    public Line parse(CharSequence rawLine) {
+        return parse(rawLine, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /*
+     * Values of lines indented deeper than maximumValueDepth, or maximumListValueDepth for list values, are validated
+     * but replaced by SKIPPED_VALUE.
+     */
+    public Line parse(CharSequence rawLine, int maximumValueDepth, int maximumListValueDepth) {
         Objects.requireNonNull(rawLine);
-        var lineStructure = computeDescription(rawLine);
-        if (lineStructure.isNotRelevant()) {
+        lastDepth = NOT_RELEVANT;
+        lastColumn = 0;
+        var leadingSpaces = computeDescription(rawLine);
+        if (leadingSpaces == NOT_RELEVANT) {
             return EmptyLine.SINGLE_INSTANCE;
         }
-        var leadingSpaces = lineStructure.amountOfLeadingSpaces();
-        var line = rawLine.substring(leadingSpaces);
-        if (line.startsWith("-")) {
-            if(line.length() == 1){
-                throw ParsingException.wrongValue("empty value", line);
+        lastDepth = leadingSpaces;
+        lastColumn = leadingSpaces;
+        var line = parseRelevantLine(rawLine, leadingSpaces, maximumValueDepth, maximumListValueDepth);
+        lastColumn = leadingSpaces;
+        return line;
+    }
+
+    private Line parseRelevantLine(CharSequence rawLine, int leadingSpaces, int maximumValueDepth, int maximumListValueDepth) {
+        if (rawLine.charAt(leadingSpaces) == '-') {
+            if(leadingSpaces == rawLine.length() - 1){
+                lastColumn = rawLine.length();
+                throw exceptionFactory.wrongValue("empty value", slice(rawLine, leadingSpaces, rawLine.length()));
             }
-            if(!Character.isWhitespace(line.charAt(1))){
-                throw ParsingException.wrongValue("list value should have a whitespace after dash", line);
+            if(!Character.isWhitespace(rawLine.charAt(leadingSpaces + 1))){
+                lastColumn = leadingSpaces + 1;
+                throw exceptionFactory.wrongValue("list value should have a whitespace after dash", slice(rawLine, leadingSpaces, rawLine.length()));
             }
-            var valueGroup = line.substring(2);
-            return new ListValueLine(leadingSpaces, valueParser.parse(valueGroup));
+            var value = parseValue(rawLine, leadingSpaces + 2, rawLine.length(), leadingSpaces <= maximumListValueDepth);
+            return new ListValueLine(leadingSpaces, value);
         }
-        var indexOfColon = line.indexOf(':');
+        var indexOfColon = indexOf(rawLine, ':', leadingSpaces);
         if (indexOfColon == -1) {
-            throw ParsingException.wrongKey("missing colon", line);
+            throw exceptionFactory.wrongKey("missing colon", slice(rawLine, leadingSpaces, rawLine.length()));
+        }
+        var end = rawLine.length();
+        while (Character.isWhitespace(rawLine.charAt(end - 1))) {
+            end--;
         }
-        line = line.stripTrailing();
-        var keyPart = line.substring(0, indexOfColon + 1);
-        var key = keyParser.parse(keyPart);
-        if (indexOfColon == line.length() - 1) {
+        var key = keyParser.parse(rawLine, leadingSpaces, indexOfColon + 1);
+        if (indexOfColon == end - 1) {
             return new KeyLine(leadingSpaces, key);
         }
-        var characterAfterColon = line.charAt(indexOfColon + 1);
+        var characterAfterColon = rawLine.charAt(indexOfColon + 1);
         if (characterAfterColon != ' ' && characterAfterColon != '\t') {
-            throw ParsingException.wrongKey("colon must be followed by whitespace character", line);
+            lastColumn = indexOfColon + 1;
+            throw exceptionFactory.wrongKey("colon must be followed by whitespace character", slice(rawLine, leadingSpaces, end));
         }
-        var valuePart = line.substring(indexOfColon + 1);
-        var value = valueParser.parse(valuePart);
+        var value = parseValue(rawLine, indexOfColon + 1, end, leadingSpaces <= maximumValueDepth);
         return new KeyValueLine(leadingSpaces, key, value);
     }
 
+    /*
+     * Returns the amount of leading spaces of the last line, or NOT_RELEVANT if it was blank, a comment, or if its
+     * indentation was invalid.
+     */
+    public int lastDepth() {
+        return lastDepth;
+    }
+
+    /*
+     * Returns the index, starting at 0, of the character where the last line failed. Once a line is parsed, it is the
+     * index of its first character that is not a whitespace, so that later errors on the line can point at it.
+     */
+    public int lastColumn() {
+        return lastColumn;
+    }
+
 }
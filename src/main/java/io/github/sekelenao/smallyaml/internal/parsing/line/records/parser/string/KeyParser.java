@@ -1,60 +1,144 @@
 package io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.string;
 
-import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
+import io.github.sekelenao.smallyaml.internal.parsing.ParsingExceptionFactory;
 
 import java.util.Locale;
 import java.util.Objects;
 
 public final class KeyParser {
 
-    private enum State { START, ENCOUNTERED_NORMAL_CHAR, ENCOUNTERED_DOT, ENCOUNTERED_SPECIAL_CHAR, END }
+    private static final int NORMAL_CHARACTER = 0;
 
-    private State state = State.START;
+    private static final int DOT_CHARACTER = 1;
 
-    private void treatDotCharacter(String rawKey){
-        switch (state){
-            case START, ENCOUNTERED_DOT, END -> throw ParsingException.wrongKey("empty key part", rawKey);
-            case ENCOUNTERED_SPECIAL_CHAR -> throw ParsingException.wrongKey("key part ends with special character", rawKey);
-            case ENCOUNTERED_NORMAL_CHAR -> state = State.ENCOUNTERED_DOT;
+    private static final int SPECIAL_CHARACTER = 2;
+
+    private static final int FORBIDDEN_CHARACTER = 3;
+
+    private static final int AMOUNT_OF_CLASSES = 4;
+
+    private static final int START = 0;
+
+    private static final int ENCOUNTERED_NORMAL_CHAR = 1;
+
+    private static final int ENCOUNTERED_DOT = 2;
+
+    private static final int ENCOUNTERED_SPECIAL_CHAR = 3;
+
+    private static final int END = 4;
+
+    private static final String[] ERRORS = {
+        "empty key part",
+        "key part ends with special character",
+        "key start with special character",
+        "key part start with special character",
+        "key ends with special character",
+        "forbidden character"
+    };
+
+    private static final int EMPTY_KEY_PART = -1;
+
+    private static final int KEY_PART_ENDS_WITH_SPECIAL_CHAR = -2;
+
+    private static final int KEY_STARTS_WITH_SPECIAL_CHAR = -3;
+
+    private static final int KEY_PART_STARTS_WITH_SPECIAL_CHAR = -4;
+
+    private static final int KEY_ENDS_WITH_SPECIAL_CHAR = -5;
+
+    private static final int FORBIDDEN = -6;
+
+    private static final byte[] LATIN1_CLASSES = new byte[256];
+
+    /*
+     * Next state for each (state, character class) pair, negative values are errors.
+     * The END row is used for the last character of the key.
+     */
+    private static final byte[] TRANSITIONS = {
+        /* START */ ENCOUNTERED_NORMAL_CHAR, EMPTY_KEY_PART, KEY_STARTS_WITH_SPECIAL_CHAR, FORBIDDEN,
+        /* ENCOUNTERED_NORMAL_CHAR */ ENCOUNTERED_NORMAL_CHAR, ENCOUNTERED_DOT, ENCOUNTERED_SPECIAL_CHAR, FORBIDDEN,
+        /* ENCOUNTERED_DOT */ ENCOUNTERED_NORMAL_CHAR, EMPTY_KEY_PART, KEY_PART_STARTS_WITH_SPECIAL_CHAR, FORBIDDEN,
+        /* ENCOUNTERED_SPECIAL_CHAR */ ENCOUNTERED_NORMAL_CHAR, KEY_PART_ENDS_WITH_SPECIAL_CHAR, ENCOUNTERED_SPECIAL_CHAR, FORBIDDEN,
+        /* END */ ENCOUNTERED_NORMAL_CHAR, EMPTY_KEY_PART, KEY_ENDS_WITH_SPECIAL_CHAR, FORBIDDEN
+    };
+
+    static {
+        for (char character = 0; character < LATIN1_CLASSES.length; character++) {
+            LATIN1_CLASSES[character] = (byte) slowClassOf(character);
+        }
+    }
+
+    private static int slowClassOf(char character){
+        if(Character.isLetterOrDigit(character)){
+            return NORMAL_CHARACTER;
         }
+        return switch (character){
+            case '.' -> DOT_CHARACTER;
+            case '-', '_' -> SPECIAL_CHARACTER;
+            default -> FORBIDDEN_CHARACTER;
+        };
     }
 
-    private void treatSpecialCharacter(String rawKey){
-        switch (state){
-            case START -> throw ParsingException.wrongKey("key start with special character", rawKey);
-            case ENCOUNTERED_DOT -> throw ParsingException.wrongKey("key part start with special character", rawKey);
-            case ENCOUNTERED_SPECIAL_CHAR, ENCOUNTERED_NORMAL_CHAR -> state = State.ENCOUNTERED_SPECIAL_CHAR;
-            case END -> throw ParsingException.wrongKey("key ends with special character", rawKey);
+    private static int classOf(char character){
+        if(character < LATIN1_CLASSES.length){
+            return LATIN1_CLASSES[character];
         }
+        return slowClassOf(character);
+    }
+
+    private final ParsingExceptionFactory exceptionFactory;
+
+    public KeyParser(){
+        this(ParsingExceptionFactory.WITH_STACK_TRACES);
+    }
+
+    public KeyParser(ParsingExceptionFactory exceptionFactory){
+        Objects.requireNonNull(exceptionFactory);
+        this.exceptionFactory = exceptionFactory;
     }
 
     public String parse(String rawKey){
         Objects.requireNonNull(rawKey);
-        var trimmedKey = rawKey.trim();
-        if(!trimmedKey.endsWith(":")){
-            throw ParsingException.wrongKey("missing colon", rawKey);
-        }
-        if(trimmedKey.length() == 1){
-            throw ParsingException.wrongKey("empty key", rawKey);
-        }
-        var keyValue = trimmedKey.substring(0, trimmedKey.length() - 1);
-        for (int i = 0; i < keyValue.length(); i++) {
-            var currentCharacter = keyValue.charAt(i);
-            if(Character.isLetterOrDigit(currentCharacter)){
-                state = State.ENCOUNTERED_NORMAL_CHAR;
+        return parse(rawKey, 0, rawKey.length());
+    }
+
+    /*
+     * Parses the raw key found between start (inclusive) and end (exclusive) without creating intermediate strings.
+     * Bounds are trimmed the same way as String::trim, and error messages contain the raw key.
+     */
+    public String parse(CharSequence line, int start, int end){
+        Objects.requireNonNull(line);
+        Objects.checkFromToIndex(start, end, line.length());
+        var keyStart = start;
+        var keyEnd = end;
+        while (keyStart < keyEnd && line.charAt(keyStart) <= ' '){
+            keyStart++;
+        }
+        while (keyEnd > keyStart && line.charAt(keyEnd - 1) <= ' '){
+            keyEnd--;
+        }
+        if(keyEnd == keyStart || line.charAt(keyEnd - 1) != ':'){
+            throw exceptionFactory.wrongKey("missing colon", line.subSequence(start, end).toString());
+        }
+        if(keyEnd - keyStart == 1){
+            throw exceptionFactory.wrongKey("empty key", line.subSequence(start, end).toString());
+        }
+        keyEnd--;
+        var state = START;
+        for (int i = keyStart; i < keyEnd; i++) {
+            var characterClass = classOf(line.charAt(i));
+            // Letters and digits are valid in every state, reading their transition would chain the loads of the table
+            if(characterClass == NORMAL_CHARACTER){
+                state = ENCOUNTERED_NORMAL_CHAR;
                 continue;
             }
-            if (i == keyValue.length() - 1){
-                state = State.END;
-            }
-            switch (currentCharacter){
-                case '.' -> treatDotCharacter(rawKey);
-                case '-', '_' -> treatSpecialCharacter(rawKey);
-                default -> throw ParsingException.wrongKey("forbidden character", rawKey);
+            var row = i == keyEnd - 1 ? END : state;
+            state = TRANSITIONS[row * AMOUNT_OF_CLASSES + characterClass];
+            if(state < 0){
+                throw exceptionFactory.wrongKey(ERRORS[-state - 1], line.subSequence(start, end).toString());
             }
         }
-        state = State.START;
-        return keyValue.toLowerCase(Locale.ROOT);
+        return line.subSequence(keyStart, keyEnd).toString().toLowerCase(Locale.ROOT);
     }
 
 }
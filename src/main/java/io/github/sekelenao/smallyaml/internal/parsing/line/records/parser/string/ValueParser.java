@@ -1,25 +1,67 @@
 package io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.string;
 
 
-import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
+import io.github.sekelenao.smallyaml.internal.parsing.ParsingExceptionFactory;
 
 import java.util.Objects;
 
 public final class ValueParser {
 
+    private final ParsingExceptionFactory exceptionFactory;
+
+    public ValueParser(){
+        this(ParsingExceptionFactory.WITH_STACK_TRACES);
+    }
+
+    public ValueParser(ParsingExceptionFactory exceptionFactory){
+        Objects.requireNonNull(exceptionFactory);
+        this.exceptionFactory = exceptionFactory;
+    }
+
     public String parse(String rawValue){
         Objects.requireNonNull(rawValue);
-        var value = rawValue.trim();
-        if(value.isEmpty()){
-            throw ParsingException.wrongValue("empty value", rawValue);
+        return parse(rawValue, 0, rawValue.length());
+    }
+
+    /*
+     * Parses the raw value found between start (inclusive) and end (exclusive) without creating intermediate strings.
+     * Bounds are trimmed the same way as String::trim, and error messages contain the raw value.
+     */
+    public String parse(CharSequence line, int start, int end){
+        Objects.requireNonNull(line);
+        Objects.checkFromToIndex(start, end, line.length());
+        var valueStart = start;
+        var valueEnd = end;
+        while (valueStart < valueEnd && line.charAt(valueStart) <= ' '){
+            valueStart++;
         }
-        if(value.startsWith("\"") && value.endsWith("\"")){
-            if(value.length() == 1){
+        while (valueEnd > valueStart && line.charAt(valueEnd - 1) <= ' '){
+            valueEnd--;
+        }
+        if(valueStart == valueEnd){
+            throw exceptionFactory.wrongValue("empty value", line.subSequence(start, end).toString());
+        }
+        if(line.charAt(valueStart) == '"' && line.charAt(valueEnd - 1) == '"'){
+            if(valueEnd - valueStart == 1){
                 return "\"";
             }
-            return value.substring(1, value.length() - 1);
+            return line.subSequence(valueStart + 1, valueEnd - 1).toString();
+        }
+        return line.subSequence(valueStart, valueEnd).toString();
+    }
+
+    /*
+     * Checks the raw value found between start (inclusive) and end (exclusive) like parse does, without extracting it.
+     */
+    public void validate(CharSequence line, int start, int end){
+        Objects.requireNonNull(line);
+        Objects.checkFromToIndex(start, end, line.length());
+        for (var index = start; index < end; index++){
+            if(line.charAt(index) > ' '){
+                return;
+            }
         }
-        return value;
+        throw exceptionFactory.wrongValue("empty value", line.subSequence(start, end).toString());
     }
 
 }
@@ -0,0 +1,74 @@
+package io.github.sekelenao.smallyaml.internal.parsing.line.scanner;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/*
+ * Finds line breaks in the buffers of the line providers. The vectorized implementation is only used when it has
+ * been compiled, by the vector profile, when the incubating jdk.incubator.vector module has been added to the boot
+ * layer, with --add-modules, and when the platform has at least 128-bit vectors. Otherwise, buffers are scanned
+ * with the scalar implementation.
+ */
+public interface BufferScanner {
+
+    String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+
+    String VECTOR_SCANNER_CLASS_NAME = "io.github.sekelenao.smallyaml.internal.parsing.line.scanner.VectorBufferScanner";
+
+    /*
+     * Returns the index of the first '\n' or '\r' between from (inclusive) and to (exclusive), or -1.
+     */
+    int indexOfLineBreak(byte[] bytes, int from, int to);
+
+    /*
+     * Returns the index of the first '\n', '\r' or non-ASCII byte between from (inclusive) and to (exclusive), or -1.
+     */
+    int indexOfLineBreakOrNonAscii(byte[] bytes, int from, int to);
+
+    /*
+     * Returns the index of the first '\n' or '\r' between from (inclusive) and to (exclusive), or -1.
+     */
+    int indexOfLineBreak(char[] characters, int from, int to);
+
+    /*
+     * Same as the byte array version, with absolute indexes of the buffer, whose position is left unchanged.
+     */
+    int indexOfLineBreak(ByteBuffer bytes, int from, int to);
+
+    /*
+     * Same as the byte array version, with absolute indexes of the buffer, whose position is left unchanged.
+     */
+    int indexOfLineBreakOrNonAscii(ByteBuffer bytes, int from, int to);
+
+    /*
+     * The vectorized scanner lives in src/vector/java, out of the main compilation, and the vector module is not
+     * required by the module descriptor, so both are looked up here. The module is read from here before the
+     * scanner class is initialized, because its static fields are vectors.
+     */
+    static Optional<BufferScanner> vectorized() {
+        var vectorModule = ModuleLayer.boot().findModule(VECTOR_MODULE_NAME);
+        if(vectorModule.isEmpty()){
+            return Optional.empty();
+        }
+        Class<?> scannerClass;
+        try {
+            scannerClass = Class.forName(VECTOR_SCANNER_CLASS_NAME, false, BufferScanner.class.getClassLoader());
+        } catch (ClassNotFoundException exception) {
+            return Optional.empty();
+        }
+        BufferScanner.class.getModule().addReads(vectorModule.get());
+        try {
+            if(!(boolean) scannerClass.getMethod("isSupported").invoke(null)){
+                return Optional.empty();
+            }
+            return Optional.of((BufferScanner) scannerClass.getConstructor().newInstance());
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("The vectorized buffer scanner cannot be created", exception);
+        }
+    }
+
+    static BufferScanner best() {
+        return vectorized().orElseGet(ScalarBufferScanner::new);
+    }
+
+}
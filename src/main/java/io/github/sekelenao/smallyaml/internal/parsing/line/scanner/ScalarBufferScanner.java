@@ -0,0 +1,96 @@
+package io.github.sekelenao.smallyaml.internal.parsing.line.scanner;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public final class ScalarBufferScanner implements BufferScanner {
+
+    private static final long ONES = 0x0101010101010101L;
+
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private static final long LINE_FEEDS = ONES * '\n';
+
+    private static final long CARRIAGE_RETURNS = ONES * '\r';
+
+    @Override
+    public int indexOfLineBreak(byte[] bytes, int from, int to) {
+        for (var index = from; index < to; index++) {
+            var currentByte = bytes[index];
+            if(currentByte == '\n' || currentByte == '\r'){
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfLineBreakOrNonAscii(byte[] bytes, int from, int to) {
+        for (var index = from; index < to; index++) {
+            var currentByte = bytes[index];
+            if(currentByte == '\n' || currentByte == '\r' || currentByte < 0){
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfLineBreak(char[] characters, int from, int to) {
+        for (var index = from; index < to; index++) {
+            var currentCharacter = characters[index];
+            if(currentCharacter == '\n' || currentCharacter == '\r'){
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfLineBreak(ByteBuffer bytes, int from, int to) {
+        return indexOf(bytes, from, to, false);
+    }
+
+    @Override
+    public int indexOfLineBreakOrNonAscii(ByteBuffer bytes, int from, int to) {
+        return indexOf(bytes, from, to, true);
+    }
+
+    /*
+     * Sets the high bit of the bytes equal to zero. Bytes above a zero byte may be marked too, so only
+     * the lowest mark is exact.
+     */
+    private static long zeroBytes(long word) {
+        return (word - ONES) & ~word & HIGH_BITS;
+    }
+
+    /*
+     * Reading a buffer one byte at a time is slow, especially a mapped one, so bytes are read and compared
+     * eight at a time, in a long.
+     */
+    private static int indexOf(ByteBuffer bytes, int from, int to, boolean isNonAsciiSearched) {
+        var isBigEndian = bytes.order() == ByteOrder.BIG_ENDIAN;
+        var index = from;
+        for (; index <= to - Long.BYTES; index += Long.BYTES) {
+            var word = bytes.getLong(index);
+            if(isBigEndian){
+                word = Long.reverseBytes(word);
+            }
+            var matches = zeroBytes(word ^ LINE_FEEDS) | zeroBytes(word ^ CARRIAGE_RETURNS);
+            if(isNonAsciiSearched){
+                matches |= word & HIGH_BITS;
+            }
+            if(matches != 0){
+                return index + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+        for (; index < to; index++) {
+            var currentByte = bytes.get(index);
+            if(currentByte == '\n' || currentByte == '\r' || (isNonAsciiSearched && currentByte < 0)){
+                return index;
+            }
+        }
+        return -1;
+    }
+
+}
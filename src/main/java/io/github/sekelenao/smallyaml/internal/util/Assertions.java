@@ -19,4 +19,30 @@ public final class Assertions {
         }
     }
 
+    /**
+     * Validates that the provided integer value is strictly positive.
+     * If the value is zero or negative, an {@link IllegalArgumentException} is thrown.
+     *
+     * @param value the integer value to validate
+     * @throws IllegalArgumentException if the value is zero or negative
+     */
+    public static void isStrictlyPositive(int value){
+        if(value <= 0){
+            throw new IllegalArgumentException("Value must be strictly positive: " + value);
+        }
+    }
+
+    /**
+     * Validates that the provided long value is strictly positive.
+     * If the value is zero or negative, an {@link IllegalArgumentException} is thrown.
+     *
+     * @param value the long value to validate
+     * @throws IllegalArgumentException if the value is zero or negative
+     */
+    public static void isStrictlyPositive(long value){
+        if(value <= 0){
+            throw new IllegalArgumentException("Value must be strictly positive: " + value);
+        }
+    }
+
 }
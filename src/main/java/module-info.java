@@ -8,6 +8,9 @@ module SmallYAML {
     exports io.github.sekelenao.smallyaml.api.document;
     exports io.github.sekelenao.smallyaml.api.document.property;
 
+    // Event
+    exports io.github.sekelenao.smallyaml.api.event;
+
     // Line provider
     exports io.github.sekelenao.smallyaml.api.line.provider;
 
@@ -20,10 +23,12 @@ module SmallYAML {
     exports io.github.sekelenao.smallyaml.internal.parsing to SmallYAML.test;
     exports io.github.sekelenao.smallyaml.internal.util to SmallYAML.test;
     exports io.github.sekelenao.smallyaml.internal.parsing.line.provider to SmallYAML.test;
+    exports io.github.sekelenao.smallyaml.internal.parsing.line.scanner to SmallYAML.test;
     exports io.github.sekelenao.smallyaml.internal.parsing.line.records to SmallYAML.test;
     exports io.github.sekelenao.smallyaml.internal.parsing.line.records.parser to SmallYAML.test;
     exports io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.string to SmallYAML.test;
     exports io.github.sekelenao.smallyaml.internal.parsing.collector to SmallYAML.test;
+    exports io.github.sekelenao.smallyaml.internal.parsing.filter to SmallYAML.test;
 
     // Opens for tests
     opens io.github.sekelenao.smallyaml.api.document to SmallYAML.test;
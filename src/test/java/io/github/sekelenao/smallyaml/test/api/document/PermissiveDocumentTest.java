@@ -1,24 +1,45 @@
 package io.github.sekelenao.smallyaml.test.api.document;
 
 import io.github.sekelenao.smallyaml.api.document.PermissiveDocument;
+import io.github.sekelenao.smallyaml.api.document.ValidationError;
+import io.github.sekelenao.smallyaml.api.document.ValidationReport;
+import io.github.sekelenao.smallyaml.api.document.ValidationResult;
+import io.github.sekelenao.smallyaml.api.document.property.MultipleValuesProperty;
 import io.github.sekelenao.smallyaml.api.document.property.Property;
+import io.github.sekelenao.smallyaml.api.document.property.SingleValueProperty;
+import io.github.sekelenao.smallyaml.api.exception.ErrorKind;
+import io.github.sekelenao.smallyaml.api.exception.document.DuplicatedPropertyException;
 import io.github.sekelenao.smallyaml.api.exception.document.WrongPropertyTypeException;
+import io.github.sekelenao.smallyaml.api.exception.parsing.BooleanFormatException;
+import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
 import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.test.CorrectTestDocument;
 import io.github.sekelenao.smallyaml.test.TestingTag;
 import io.github.sekelenao.smallyaml.test.util.ExceptionsTester;
 import io.github.sekelenao.smallyaml.test.util.Reflections;
 import io.github.sekelenao.smallyaml.test.util.document.DocumentsTester;
+import io.github.sekelenao.smallyaml.test.util.document.generator.DocumentGenerator;
+import io.github.sekelenao.smallyaml.test.util.document.generator.DocumentGenerators;
+import io.github.sekelenao.smallyaml.test.util.resource.TestResource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -26,8 +47,10 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -72,6 +95,569 @@ final class PermissiveDocumentTest {
 
     }
 
+    @Nested
+    @DisplayName("Parallel loading")
+    final class ParallelLoading {
+
+        private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+        private static Stream<CorrectTestDocument> correctDocuments() {
+            return Stream.of(CorrectTestDocument.values())
+                .filter(document -> TestResource.class.getClassLoader().getResource(document.resourcePath()) != null);
+        }
+
+        @Test
+        @DisplayName("Parallel loading assertions")
+        void assertions() {
+            var lineProvider = LineProvider.with("");
+            assertAll(
+                () -> assertThrows(NullPointerException.class, () -> PermissiveDocument.fromInParallel(null)),
+                () -> assertThrows(NullPointerException.class, () -> PermissiveDocument.fromInParallel(null, POOL, 1)),
+                () -> assertThrows(NullPointerException.class, () -> PermissiveDocument.fromInParallel(lineProvider, null, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> PermissiveDocument.fromInParallel(lineProvider, POOL, 0)),
+                () -> assertEquals(PermissiveDocument.empty(), PermissiveDocument.fromInParallel(lineProvider))
+            );
+        }
+
+        @ParameterizedTest
+        @MethodSource("correctDocuments")
+        @DisplayName("Correct documents are loaded in parallel")
+        void correctDocumentsAreLoadedInParallel(CorrectTestDocument correctDocument) throws IOException {
+            var expected = PermissiveDocument.from(LineProvider.with(TestResource.asInputStream(correctDocument)));
+            assertAll(
+                () -> assertEquals(expected, PermissiveDocument.fromInParallel(LineProvider.with(TestResource.asInputStream(correctDocument)), POOL, 1)),
+                () -> assertEquals(expected, PermissiveDocument.fromInParallel(LineProvider.with(TestResource.asInputStream(correctDocument))))
+            );
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource(DocumentGenerators.SEEDED)
+        @DisplayName("Generated documents are loaded in parallel")
+        void generatedDocumentsAreLoadedInParallel(DocumentGenerator generator) throws IOException {
+            var text = generator.generate();
+            var expected = PermissiveDocument.from(LineProvider.with(text));
+            assertAll(
+                () -> assertEquals(expected, PermissiveDocument.fromInParallel(LineProvider.with(text), POOL, 1)),
+                () -> assertEquals(expected, PermissiveDocument.fromInParallel(LineProvider.with(text), POOL, 100)),
+                () -> assertEquals(expected, PermissiveDocument.fromInParallel(LineProvider.with(text), POOL, Integer.MAX_VALUE))
+            );
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "list:\n- one\n- two\nother: 1",
+            "list:\n    - one\n# Comment\n\n    - two\nother: 1",
+            "first:\n# Comment\n    second: 1\n\n    third:\n    - one\nfourth: 2",
+            "# Comment\n\nfirst: 1\n#second: 2\n  # Comment\nsecond: 2"
+        })
+        @DisplayName("Parts are not cut at list values, comments or blank lines")
+        void partsAreNotCutAtListValuesCommentsOrBlankLines(String text) throws IOException {
+            var expected = PermissiveDocument.from(LineProvider.with(text));
+            for (var sequentialThreshold = 1; sequentialThreshold <= text.lines().count(); sequentialThreshold++) {
+                assertEquals(expected, PermissiveDocument.fromInParallel(LineProvider.with(text), POOL, sequentialThreshold));
+            }
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @ValueSource(ints = {1, 100, 100_000})
+        @DisplayName("Lines are read as sequences without creating a string per line")
+        void linesAreReadAsSequences(int sequentialThreshold) throws IOException {
+            var text = new DocumentGenerator(7, DocumentGenerator.Shape.withProperties(2_000)).generate();
+            var expected = PermissiveDocument.from(LineProvider.with(text));
+            var lines = LineProvider.with(text);
+            var sequencesOnly = new LineProvider() {
+
+                @Override
+                public boolean hasNext() throws IOException {
+                    return lines.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    throw new AssertionError("Lines must be read with nextSequence");
+                }
+
+                @Override
+                public CharSequence nextSequence() throws IOException {
+                    return lines.nextSequence();
+                }
+
+            };
+            assertEquals(expected, PermissiveDocument.fromInParallel(sequencesOnly, POOL, sequentialThreshold));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "first:\n    second: 1\nother: 2\nfirst.second: 3",
+            "list:\n    - one\nother: 2\nlist:\n    - two",
+            "key: value\nother:\n    - one\nKEY: value"
+        })
+        @DisplayName("Duplicated properties are detected across parts")
+        void duplicatedPropertiesAreDetectedAcrossParts(String text) {
+            assertAll(
+                () -> assertThrows(DuplicatedPropertyException.class, () -> PermissiveDocument.from(LineProvider.with(text))),
+                () -> assertThrows(DuplicatedPropertyException.class, () -> PermissiveDocument.fromInParallel(LineProvider.with(text), POOL, 1))
+            );
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "first: 1\nsecond: 2\nthird 3",
+            "first: 1\nsecond:\n    - 2\nthird: 3\n    - 4",
+            "first: 1\n- 2\nthird: 3",
+            "first: 1\n    second: 2"
+        })
+        @DisplayName("Errors are reported in parallel")
+        void errorsAreReportedInParallel(String text) {
+            var expected = assertThrows(ParsingException.class, () -> PermissiveDocument.from(LineProvider.with(text)));
+            var actual = assertThrows(ParsingException.class, () -> PermissiveDocument.fromInParallel(LineProvider.with(text), POOL, 1));
+            assertEquals(expected.getMessage(), actual.getMessage());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Filtered loading")
+    final class FilteredLoading {
+
+        private static final String SHARED_CONFIGURATION = """
+            db:
+                host: localhost
+                port: 5432
+                replicas:
+                    - first
+                    - second
+            dbx: other
+            cache.size: 128
+            metrics:
+                exporters:
+                    - prometheus
+                db:
+                    enabled: true
+            """;
+
+        private static Set<Property<?>> propertiesOf(PermissiveDocument document) {
+            return document.stream().collect(Collectors.toSet());
+        }
+
+        @Test
+        @DisplayName("Filtered loading assertions")
+        void assertions() {
+            var lineProvider = LineProvider.with("");
+            assertAll(
+                () -> assertThrows(NullPointerException.class, () -> PermissiveDocument.fromFiltered(null, key -> true)),
+                () -> assertThrows(NullPointerException.class, () -> PermissiveDocument.fromFiltered(lineProvider, null)),
+                () -> assertThrows(NullPointerException.class, () -> PermissiveDocument.fromPrefixes(null, Set.of("db"))),
+                () -> assertThrows(NullPointerException.class, () -> PermissiveDocument.fromPrefixes(lineProvider, null)),
+                () -> assertThrows(NullPointerException.class, () -> PermissiveDocument.fromPrefixes(lineProvider, Collections.singleton(null))),
+                () -> assertThrows(IllegalArgumentException.class, () -> PermissiveDocument.fromPrefixes(lineProvider, Set.of("")))
+            );
+        }
+
+        @Test
+        @DisplayName("Only properties under the prefixes are kept")
+        void onlyPropertiesUnderThePrefixesAreKept() throws IOException {
+            var document = PermissiveDocument.fromPrefixes(LineProvider.with(SHARED_CONFIGURATION), List.of("DB", "cache", "metrics.db"));
+            assertEquals(Set.of(
+                new SingleValueProperty("db.host", "localhost"),
+                new SingleValueProperty("db.port", "5432"),
+                new MultipleValuesProperty("db.replicas", List.of("first", "second")),
+                new SingleValueProperty("cache.size", "128"),
+                new SingleValueProperty("metrics.db.enabled", "true")
+            ), propertiesOf(document));
+        }
+
+        @Test
+        @DisplayName("Only properties accepted by the predicate are kept")
+        void onlyPropertiesAcceptedByThePredicateAreKept() throws IOException {
+            var document = PermissiveDocument.fromFiltered(LineProvider.with(SHARED_CONFIGURATION), key -> key.endsWith("s"));
+            assertEquals(Set.of(
+                new MultipleValuesProperty("db.replicas", List.of("first", "second")),
+                new MultipleValuesProperty("metrics.exporters", List.of("prometheus"))
+            ), propertiesOf(document));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "db:\n    host: localhost\nother:\n    list:\n        - \n",
+            "db:\n    host: localhost\nother:\n    key:value",
+            "db:\n    host: localhost\nother:\n    key value",
+            "db:\n    host: localhost\nother:\n    key: 1\n    - orphan"
+        })
+        @DisplayName("Syntax errors are reported outside of the prefixes")
+        void syntaxErrorsAreReported(String text) {
+            var expected = assertThrows(ParsingException.class, () -> PermissiveDocument.from(LineProvider.with(text)));
+            assertAll(
+                () -> ExceptionsTester.assertIsThrownAndContains(
+                    ParsingException.class, () -> PermissiveDocument.fromPrefixes(LineProvider.with(text), Set.of("db")), expected.getMessage()
+                ),
+                () -> ExceptionsTester.assertIsThrownAndContains(
+                    ParsingException.class, () -> PermissiveDocument.fromFiltered(LineProvider.with(text), key -> false), expected.getMessage()
+                )
+            );
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "other: 1\nother: 2",
+            "other:\n    - 1\nother:\n    - 2",
+            "other:\n    list:\n        - 1\nother.list: 2",
+            "other.key: 1\nother:\n    key: 2",
+            "Other: 1\nOTHER: 2",
+            "other:\n    - 1\nother: 2",
+            "other:\n    key: 1\ndb: 1\nother.KEY:\n    - 2"
+        })
+        @DisplayName("Duplicated properties are detected outside of the prefixes")
+        void duplicatedPropertiesAreDetected(String text) {
+            assertAll(
+                () -> assertThrows(DuplicatedPropertyException.class, () -> PermissiveDocument.fromPrefixes(LineProvider.with(text), Set.of("db"))),
+                () -> assertThrows(DuplicatedPropertyException.class, () -> PermissiveDocument.fromFiltered(LineProvider.with(text), key -> false))
+            );
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource(DocumentGenerators.SEEDED)
+        @DisplayName("Generated documents are filtered like the whole document")
+        void generatedDocumentsAreFiltered(DocumentGenerator generator) throws IOException {
+            var text = generator.generate();
+            var whole = PermissiveDocument.from(LineProvider.with(text));
+            var prefixes = whole.stream()
+                .map(property -> property.key().split("\\.")[0])
+                .distinct()
+                .sorted()
+                .limit(3)
+                .collect(Collectors.toSet());
+            var expected = whole.stream()
+                .filter(property -> prefixes.stream().anyMatch(prefix -> property.key().equals(prefix) || property.key().startsWith(prefix + '.')))
+                .collect(Collectors.toSet());
+            assertAll(
+                () -> assertFalse(expected.isEmpty()),
+                () -> assertEquals(expected, propertiesOf(PermissiveDocument.fromPrefixes(LineProvider.with(text), prefixes))),
+                () -> assertEquals(propertiesOf(whole), propertiesOf(PermissiveDocument.fromFiltered(LineProvider.with(text), key -> true)))
+            );
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource(DocumentGenerators.SEEDED)
+        @DisplayName("Excluded keys of generated documents are only rejected when duplicated")
+        void excludedKeysAreOnlyRejectedWhenDuplicated(DocumentGenerator generator) throws IOException {
+            var text = generator.generate();
+            var topLevelKey = PermissiveDocument.from(LineProvider.with(text)).stream()
+                .map(Property::key)
+                .filter(key -> key.indexOf('.') == -1)
+                .findFirst()
+                .orElseThrow();
+            var duplicated = text + topLevelKey.toUpperCase(Locale.ROOT) + ": duplicated\n";
+            assertAll(
+                () -> assertEquals(0, PermissiveDocument.fromFiltered(LineProvider.with(text), key -> false).stream().count()),
+                () -> assertEquals(0, PermissiveDocument.fromPrefixes(LineProvider.with(text), Set.of("db")).stream().count()),
+                () -> ExceptionsTester.assertIsThrownAndContains(
+                    DuplicatedPropertyException.class, () -> PermissiveDocument.fromFiltered(LineProvider.with(duplicated), key -> false), topLevelKey
+                ),
+                () -> ExceptionsTester.assertIsThrownAndContains(
+                    DuplicatedPropertyException.class, () -> PermissiveDocument.fromPrefixes(LineProvider.with(duplicated), Set.of("db")), topLevelKey
+                )
+            );
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    final class Validation {
+
+        @Test
+        @DisplayName("Validation assertions")
+        void assertions() {
+            assertAll(
+                () -> assertThrows(NullPointerException.class, () -> PermissiveDocument.validate(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ValidationResult(-1, 0, 0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ValidationResult(0, -1, 0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ValidationResult(0, 0, -1))
+            );
+        }
+
+        @Test
+        @DisplayName("Valid document is summarized")
+        void validDocumentIsSummarized() throws IOException {
+            var text = """
+                # Comment
+                first:
+                    second: 2
+                    list:
+                        - one
+                        - two
+
+                third: 3
+                """;
+            var result = PermissiveDocument.validate(LineProvider.with(text));
+            assertAll(
+                () -> assertEquals(new ValidationResult(8, 2, 1), result),
+                () -> assertEquals(3, result.amountOfProperties())
+            );
+        }
+
+        @ParameterizedTest
+        @MethodSource("summarizedDocuments")
+        @DisplayName("Lines and properties are counted")
+        void linesAndPropertiesAreCounted(String text, ValidationResult expected) throws IOException {
+            assertEquals(expected, PermissiveDocument.validate(LineProvider.with(text)));
+        }
+
+        private static Stream<Arguments> summarizedDocuments() {
+            return Stream.of(
+                Arguments.of("", new ValidationResult(0, 0, 0)),
+                Arguments.of("# Comment\n\n   \n", new ValidationResult(3, 0, 0)),
+                Arguments.of("first:\n    second:\n", new ValidationResult(2, 0, 0)),
+                Arguments.of("list:\n- one\n# Comment\n\n- two\nother: 1", new ValidationResult(6, 1, 1)),
+                Arguments.of("first:\n    list:\n        - one\n    other:\n        - two\n", new ValidationResult(5, 0, 2))
+            );
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource(DocumentGenerators.SEEDED)
+        @DisplayName("Generated documents are validated")
+        void generatedDocumentsAreValidated(DocumentGenerator generator) throws IOException {
+            var summary = generator.writeTo(new StringBuilder());
+            var result = PermissiveDocument.validate(LineProvider.with(generator.generate()));
+            assertEquals(
+                new ValidationResult(summary.lines(), summary.singleValueProperties(), summary.multipleValuesProperties()),
+                result
+            );
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource(DocumentGenerators.SEEDED)
+        @DisplayName("Duplicates are detected among the keys of generated documents")
+        void duplicatesAreDetectedInGeneratedDocuments(DocumentGenerator generator) throws IOException {
+            var text = generator.generate();
+            var nestedKey = PermissiveDocument.from(LineProvider.with(text)).stream()
+                .map(Property::key)
+                .filter(key -> key.indexOf('.') != -1)
+                .findFirst()
+                .orElseThrow();
+            var duplicated = text + nestedKey + ": duplicated\n";
+            var expected = assertThrows(DuplicatedPropertyException.class, () -> PermissiveDocument.from(LineProvider.with(duplicated)));
+            var actual = assertThrows(DuplicatedPropertyException.class, () -> PermissiveDocument.validate(LineProvider.with(duplicated)));
+            assertEquals(expected.getMessage(), actual.getMessage());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "first: 1\nsecond: 2\nthird 3",
+            "first: 1\nsecond:\n    - 2\nthird: 3\n    - 4",
+            "first: 1\n- 2\nthird: 3",
+            "first: 1\n    second: 2",
+            "first:\n    - \n",
+            "first:value"
+        })
+        @DisplayName("Parsing errors are the same as when loading")
+        void parsingErrorsAreTheSame(String text) {
+            var expected = assertThrows(ParsingException.class, () -> PermissiveDocument.from(LineProvider.with(text)));
+            var actual = assertThrows(ParsingException.class, () -> PermissiveDocument.validate(LineProvider.with(text)));
+            assertEquals(expected.getMessage(), actual.getMessage());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "first:\n    second: 1\nother: 2\nfirst.second: 3",
+            "list:\n    - one\nother: 2\nlist:\n    - two",
+            "key: value\nother:\n    - one\nKEY: value"
+        })
+        @DisplayName("Duplicated properties are detected")
+        void duplicatedPropertiesAreDetected(String text) {
+            var expected = assertThrows(DuplicatedPropertyException.class, () -> PermissiveDocument.from(LineProvider.with(text)));
+            var actual = assertThrows(DuplicatedPropertyException.class, () -> PermissiveDocument.validate(LineProvider.with(text)));
+            assertEquals(expected.getMessage(), actual.getMessage());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Validation reporting all errors")
+    final class ValidationReporting {
+
+        @Test
+        @DisplayName("Validation reporting assertions")
+        void assertions() {
+            assertAll(
+                () -> assertThrows(NullPointerException.class, () -> PermissiveDocument.validateAll(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ValidationReport(-1, List.of())),
+                () -> assertThrows(NullPointerException.class, () -> new ValidationReport(0, null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ValidationError(0, 1, ErrorKind.KEY, "")),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ValidationError(1, 0, ErrorKind.KEY, "")),
+                () -> assertThrows(NullPointerException.class, () -> new ValidationError(1, 1, null, "")),
+                () -> assertThrows(NullPointerException.class, () -> new ValidationError(1, 1, ErrorKind.KEY, null))
+            );
+        }
+
+        private static List<ValidationError> positionsOf(ValidationReport report) {
+            return report.errors().stream()
+                .map(error -> new ValidationError(error.lineNumber(), error.column(), error.kind(), ""))
+                .toList();
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource(DocumentGenerators.SEEDED)
+        @DisplayName("Valid documents have no error")
+        void validDocumentsHaveNoError(DocumentGenerator generator) throws IOException {
+            var summary = generator.writeTo(new StringBuilder());
+            var report = PermissiveDocument.validateAll(LineProvider.with(generator.generate()));
+            assertAll(
+                () -> assertTrue(report.isValid()),
+                () -> assertEquals(summary.lines(), report.amountOfLines())
+            );
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource(DocumentGenerators.SEEDED)
+        @DisplayName("Errors following a generated document are located after its lines")
+        void errorsFollowingGeneratedDocumentAreLocated(DocumentGenerator generator) throws IOException {
+            var text = generator.generate();
+            var lines = generator.writeTo(new StringBuilder()).lines();
+            var nestedKey = PermissiveDocument.from(LineProvider.with(text)).stream()
+                .map(Property::key)
+                .filter(key -> key.indexOf('.') != -1)
+                .findFirst()
+                .orElseThrow();
+            var faulty = text + nestedKey + ": duplicated\n    child: 1\nother:value\n";
+            assertEquals(List.of(
+                new ValidationError(lines + 1, 1, ErrorKind.DUPLICATED_PROPERTY, ""),
+                new ValidationError(lines + 2, 5, ErrorKind.INDENTATION, ""),
+                new ValidationError(lines + 3, 7, ErrorKind.KEY, "")
+            ), positionsOf(PermissiveDocument.validateAll(LineProvider.with(faulty))));
+        }
+
+        @Test
+        @DisplayName("Every error is located")
+        void everyErrorIsLocated() throws IOException {
+            var text = """
+                first: 1
+                second 2
+                third:
+                    - one
+                    -two
+                # Comment
+
+                first: 5
+                  \tfourth: 4
+                fifth:value
+                sixth:
+                    -\s
+                seventh: 7
+                """;
+            var report = PermissiveDocument.validateAll(LineProvider.with(text));
+            assertAll(
+                () -> assertFalse(report.isValid()),
+                () -> assertEquals(13, report.amountOfLines()),
+                () -> assertEquals(List.of(
+                    new ValidationError(2, 1, ErrorKind.KEY, ""),
+                    new ValidationError(5, 6, ErrorKind.VALUE, ""),
+                    new ValidationError(8, 1, ErrorKind.DUPLICATED_PROPERTY, ""),
+                    new ValidationError(9, 3, ErrorKind.INDENTATION, ""),
+                    new ValidationError(10, 7, ErrorKind.KEY, ""),
+                    new ValidationError(12, 7, ErrorKind.VALUE, "")
+                ), positionsOf(report))
+            );
+        }
+
+        @Test
+        @DisplayName("Lines depending on a faulty line are only checked on their own")
+        void linesDependingOnFaultyLineAreOnlyCheckedOnTheirOwn() throws IOException {
+            var text = """
+                wrong key:
+                    child: 1
+                    list:
+                        - one
+                    other:value
+                - orphan
+                first: 1
+                - attached to nothing
+                """;
+            var report = PermissiveDocument.validateAll(LineProvider.with(text));
+            assertEquals(List.of(
+                new ValidationError(1, 1, ErrorKind.KEY, ""),
+                new ValidationError(5, 11, ErrorKind.KEY, ""),
+                new ValidationError(8, 1, ErrorKind.VALUE, "")
+            ), positionsOf(report));
+        }
+
+        @Test
+        @DisplayName("Faulty values are located at their first character or at the end of the line")
+        void faultyValuesAreLocated() throws IOException {
+            var text = "first:\n    -one\nsecond:\n    -   \t\nthird:\n    -\nfourth: 4\n";
+            assertEquals(List.of(
+                new ValidationError(2, 6, ErrorKind.VALUE, ""),
+                new ValidationError(4, 10, ErrorKind.VALUE, ""),
+                new ValidationError(6, 6, ErrorKind.VALUE, "")
+            ), positionsOf(PermissiveDocument.validateAll(LineProvider.with(text))));
+        }
+
+        @Test
+        @DisplayName("Only the list values of a duplicated property are skipped")
+        void onlyTheListValuesOfDuplicatedPropertyAreSkipped() throws IOException {
+            var text = """
+                first: 1
+                first: 2
+                    second: 2
+                list:
+                    - one
+                list:
+                    - two
+                    - three
+                    third:value
+                """;
+            var report = PermissiveDocument.validateAll(LineProvider.with(text));
+            assertEquals(List.of(
+                new ValidationError(2, 1, ErrorKind.DUPLICATED_PROPERTY, ""),
+                new ValidationError(3, 5, ErrorKind.INDENTATION, ""),
+                new ValidationError(7, 5, ErrorKind.DUPLICATED_PROPERTY, ""),
+                new ValidationError(9, 11, ErrorKind.KEY, "")
+            ), positionsOf(report));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "first: 1\nsecond: 2\nthird 3",
+            "first: 1\nsecond:\n    - 2\nthird: 3\n    - 4",
+            "first: 1\n- 2\nthird: 3",
+            "first: 1\n    second: 2",
+            "first:\n    - \n",
+            "first:value",
+            "first:\n  \tsecond: 2"
+        })
+        @DisplayName("First error is the one thrown when loading")
+        void firstErrorIsTheOneThrownWhenLoading(String text) throws IOException {
+            var expected = assertThrows(ParsingException.class, () -> PermissiveDocument.from(LineProvider.with(text)));
+            var firstError = PermissiveDocument.validateAll(LineProvider.with(text)).errors().getFirst();
+            assertAll(
+                () -> assertEquals(expected.getMessage(), firstError.message()),
+                () -> assertEquals(expected.kind().name(), firstError.kind().name())
+            );
+        }
+
+        @Test
+        @DisplayName("Lines are counted with every line provider")
+        void linesAreCountedWithEveryLineProvider() throws IOException {
+            var text = "first: 1\r\n\r\nsecond 2\r\nthird: 3\nthird: 4\n";
+            var expected = List.of(
+                new ValidationError(3, 1, ErrorKind.KEY, ""),
+                new ValidationError(5, 1, ErrorKind.DUPLICATED_PROPERTY, "")
+            );
+            var bytes = text.getBytes(StandardCharsets.UTF_8);
+            assertAll(
+                () -> assertEquals(expected, positionsOf(PermissiveDocument.validateAll(LineProvider.with(text)))),
+                () -> assertEquals(expected, positionsOf(PermissiveDocument.validateAll(
+                    LineProvider.with(new BufferedReader(new StringReader(text)))
+                ))),
+                () -> assertEquals(expected, positionsOf(PermissiveDocument.validateAll(
+                    LineProvider.with(new ByteArrayInputStream(bytes))
+                )))
+            );
+        }
+
+    }
+
     @Nested
     @DisplayName("Has property and type of")
     final class HasProperty {
@@ -434,6 +1020,105 @@ final class PermissiveDocumentTest {
             );
         }
 
+
+        @Test
+        @DisplayName("Cached conversions are not shared with the callers")
+        void cachedConversionsAreNotSharedWithTheCallers() throws IOException {
+            var document = PermissiveDocument.from(LineProvider.with("""
+                ints:
+                    - 1
+                    - 2
+                longs:
+                    - 3
+                doubles:
+                    - 4.5
+                """));
+            document.getMultipleInts("ints").orElseThrow()[0] = 10;
+            document.getMultipleLongs("longs").orElseThrow()[0] = 30;
+            document.getMultipleDoubles("doubles").orElseThrow()[0] = 45;
+            assertAll(
+                () -> assertArrayEquals(new int[]{1, 2}, document.getMultipleInts("ints").orElseThrow()),
+                () -> assertArrayEquals(new long[]{3}, document.getMultipleLongs("longs").orElseThrow()),
+                () -> assertArrayEquals(new double[]{4.5}, document.getMultipleDoubles("doubles").orElseThrow()),
+                () -> assertEquals(Optional.of(List.of("1", "2")), document.getMultipleStrings("ints"))
+            );
+        }
+
+        @Test
+        @DisplayName("Conversions of a key to several types are all cached")
+        void conversionsOfAKeyToSeveralTypesAreCached() throws IOException {
+            var document = PermissiveDocument.from(LineProvider.with("""
+                number: 42
+                flag: TRUE
+                wrong: forty-two
+                """));
+            for (var round = 0; round < 2; round++) {
+                assertAll(
+                    () -> assertEquals(OptionalInt.of(42), document.getSingleInt("number")),
+                    () -> assertEquals(OptionalLong.of(42), document.getSingleLong("number")),
+                    () -> assertEquals(OptionalDouble.of(42), document.getSingleDouble("number")),
+                    () -> assertTrue(document.getSingleBooleanOrThrow("flag")),
+                    () -> assertTrue(document.getSingleBooleanOrDefault("flag", false)),
+                    () -> assertEquals(Optional.of("42"), document.getSingleString("number")),
+                    () -> assertThrows(NumberFormatException.class, () -> document.getSingleInt("wrong")),
+                    () -> assertThrows(BooleanFormatException.class, () -> document.getSingleBooleanOrThrow("number"))
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Concurrent conversions return the same values")
+        void concurrentConversionsReturnTheSameValues() throws IOException {
+            var builder = new StringBuilder();
+            IntStream.range(0, 1_000).forEach(index -> builder.append("key").append(index).append(": ").append(index).append('\n'));
+            var document = PermissiveDocument.from(LineProvider.with(builder.toString()));
+            var pool = new ForkJoinPool(4);
+            try {
+                var allMatch = pool.submit(() -> IntStream.range(0, 20_000).parallel().allMatch(index -> {
+                    var key = "key" + index % 1_000;
+                    return document.getSingleInt(key).orElseThrow() == index % 1_000
+                        && document.getSingleLong(key).orElseThrow() == index % 1_000;
+                })).join();
+                assertTrue(allMatch);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Multiple primitive stream getters")
+        void multiplePrimitiveStreamGettersAreWorking() throws IOException {
+            var document = PermissiveDocument.from(LineProvider.with("""
+                single: 1
+                numbers:
+                    - 1
+                    - 2
+                    - 3
+                decimals:
+                    - 0.5
+                    - 1.25
+                wrong:
+                    - 1
+                    - NotANumber
+                """));
+            assertAll(
+                () -> assertThrows(NullPointerException.class, () -> document.getMultipleIntStream(null)),
+                () -> assertThrows(NullPointerException.class, () -> document.getMultipleLongStream(null)),
+                () -> assertThrows(NullPointerException.class, () -> document.getMultipleDoubleStream(null)),
+                () -> assertEquals(Optional.empty(), document.getMultipleIntStream(UNKNOWN_KEY)),
+                () -> assertEquals(Optional.empty(), document.getMultipleLongStream(UNKNOWN_KEY)),
+                () -> assertEquals(Optional.empty(), document.getMultipleDoubleStream(UNKNOWN_KEY)),
+                () -> ExceptionsTester.assertIsThrownAndContains(WrongPropertyTypeException.class, () -> document.getMultipleIntStream("single"), EXPECTED_MULTIPLE_MESSAGE),
+                () -> ExceptionsTester.assertIsThrownAndContains(WrongPropertyTypeException.class, () -> document.getMultipleLongStream("single"), EXPECTED_MULTIPLE_MESSAGE),
+                () -> ExceptionsTester.assertIsThrownAndContains(WrongPropertyTypeException.class, () -> document.getMultipleDoubleStream("single"), EXPECTED_MULTIPLE_MESSAGE),
+                () -> assertArrayEquals(new int[]{1, 2, 3}, document.getMultipleIntStream("numbers").orElseThrow().toArray()),
+                () -> assertEquals(6, document.getMultipleLongStream("numbers").orElseThrow().parallel().sum()),
+                () -> assertArrayEquals(new double[]{0.5, 1.25}, document.getMultipleDoubleStream("decimals").orElseThrow().toArray()),
+                () -> assertEquals(1, document.getMultipleIntStream("wrong").orElseThrow().limit(1).sum()),
+                () -> assertThrows(NumberFormatException.class, () -> document.getMultipleIntStream("wrong").orElseThrow().sum()),
+                () -> assertThrows(NumberFormatException.class, () -> document.getMultipleIntStream("decimals").orElseThrow().sum())
+            );
+        }
     }
 
     @Nested
@@ -546,6 +1231,238 @@ final class PermissiveDocumentTest {
             );
         }
 
+
+        @Test
+        @DisplayName("Subkeys sharing a prefix are found")
+        void subkeysSharingAPrefixAreFound() throws IOException {
+            var document = PermissiveDocument.from(LineProvider.with("""
+                a.b: 1
+                a.b-x.y: 2
+                a.b.c: 3
+                a.b.d.e: 4
+                a.bc.d: 5
+                a.b0.c: 6
+                ab.c: 7
+                """));
+            assertAll(
+                () -> assertEquals(Set.of("a.b-x", "a.b", "a.b0", "a.bc"), document.subKeysOf("a")),
+                () -> assertEquals(Set.of("a.b.d"), document.subKeysOf("a.b")),
+                () -> assertEquals(Set.of(), document.subKeysOf("a.b.d.e")),
+                () -> assertEquals(Set.of(), document.subKeysOf(""))
+            );
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource(DocumentGenerators.SEEDED)
+        @DisplayName("Subkeys of generated documents are the ones found by scanning every key")
+        void subkeysOfGeneratedDocuments(DocumentGenerator generator) throws IOException {
+            var document = PermissiveDocument.from(LineProvider.with(generator.generate()));
+            var keys = document.stream().map(Property::key).toList();
+            var parents = keys.stream()
+                .flatMap(key -> IntStream.range(0, key.length()).filter(index -> key.charAt(index) == '.').mapToObj(index -> key.substring(0, index)))
+                .collect(Collectors.toSet());
+            for (var parent : parents) {
+                var prefix = parent + ".";
+                var expected = keys.stream()
+                    .filter(key -> key.startsWith(prefix) && key.indexOf('.', prefix.length()) != -1)
+                    .map(key -> key.substring(0, key.indexOf('.', prefix.length())))
+                    .collect(Collectors.toSet());
+                assertEquals(expected, document.subKeysOf(parent), parent);
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Sub documents")
+    final class SubDocuments {
+
+        private static final String SERVICES = """
+            services: root
+            services.payment:
+                host: localhost
+                port: 8080
+                retries:
+                    - 1
+                    - 2
+                endpoints:
+                    health: /health
+                    metrics: /metrics
+            services.paymentx.host: other
+            services.search.host: remote
+            """;
+
+        @Test
+        @DisplayName("Sub document assertions")
+        void assertions() throws IOException {
+            var document = PermissiveDocument.from(LineProvider.with(SERVICES));
+            assertAll(
+                () -> assertThrows(NullPointerException.class, () -> document.subDocument(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> document.subDocument(""))
+            );
+        }
+
+        @Test
+        @DisplayName("Properties of a sub document are relative to its prefix")
+        void propertiesAreRelativeToThePrefix() throws IOException {
+            var payment = PermissiveDocument.from(LineProvider.with(SERVICES)).subDocument("services.payment");
+            assertAll(
+                () -> assertEquals(Optional.of("localhost"), payment.getSingleString("host")),
+                () -> assertEquals(OptionalInt.of(8080), payment.getSingleInt("port")),
+                () -> assertEquals(Optional.of(List.of("1", "2")), payment.getMultipleStrings("retries")),
+                () -> assertTrue(payment.hasProperty("endpoints.health")),
+                () -> assertFalse(payment.hasProperty("services.payment.host")),
+                () -> assertFalse(payment.hasProperty("endpoints")),
+                () -> assertEquals(Optional.empty(), payment.getSingleString("other")),
+                () -> assertEquals(Set.of(), payment.subKeysOf("")),
+                () -> assertEquals(Set.of(), payment.subKeysOf("endpoints"))
+            );
+        }
+
+        @Test
+        @DisplayName("Sub document is iterated in key order")
+        void subDocumentIsIteratedInKeyOrder() throws IOException {
+            var payment = PermissiveDocument.from(LineProvider.with(SERVICES)).subDocument("services.payment");
+            var expected = List.of(
+                new SingleValueProperty("endpoints.health", "/health"),
+                new SingleValueProperty("endpoints.metrics", "/metrics"),
+                new SingleValueProperty("host", "localhost"),
+                new SingleValueProperty("port", "8080"),
+                new MultipleValuesProperty("retries", List.of("1", "2"))
+            );
+            var iterated = new ArrayList<Property<?>>();
+            payment.forEach(iterated::add);
+            assertAll(
+                () -> assertEquals(expected, iterated),
+                () -> assertEquals(expected, payment.stream().toList()),
+                () -> assertEquals(expected, payment.stream().parallel().toList())
+            );
+        }
+
+        @Test
+        @DisplayName("Sub documents can be scoped again")
+        void subDocumentsCanBeScopedAgain() throws IOException {
+            var document = PermissiveDocument.from(LineProvider.with(SERVICES));
+            var endpoints = document.subDocument("services").subDocument("payment").subDocument("endpoints");
+            var expected = PermissiveDocument.from(LineProvider.with("""
+                health: /health
+                metrics: /metrics
+                """));
+            assertAll(
+                () -> assertEquals(expected, endpoints),
+                () -> assertEquals(expected.hashCode(), endpoints.hashCode()),
+                () -> assertEquals(endpoints, document.subDocument("services.payment.endpoints")),
+                () -> assertEquals(Set.of("payment.endpoints"), document.subDocument("services").subKeysOf("payment")),
+                () -> assertEquals(Optional.of("remote"), document.subDocument("services").getSingleString("search.host")),
+                () -> assertEquals(Optional.of("other"), document.subDocument("services.paymentx").getSingleString("host"))
+            );
+        }
+
+        @Test
+        @DisplayName("Sub document of an unknown prefix is empty")
+        void subDocumentOfAnUnknownPrefixIsEmpty() throws IOException {
+            var document = PermissiveDocument.from(LineProvider.with(SERVICES));
+            var empty = PermissiveDocument.from(LineProvider.with(""));
+            assertAll(
+                () -> assertEquals(empty, document.subDocument("unknown")),
+                () -> assertEquals(empty, document.subDocument("services.payment.host")),
+                () -> assertEquals(empty, document.subDocument("services.pay")),
+                () -> assertEquals(0, document.subDocument("services.payment.host").stream().count()),
+                () -> assertFalse(document.subDocument("unknown").iterator().hasNext())
+            );
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource(DocumentGenerators.SEEDED)
+        @DisplayName("Sub documents of generated documents hold the properties under their prefix")
+        void subDocumentsOfGeneratedDocuments(DocumentGenerator generator) throws IOException {
+            var document = PermissiveDocument.from(LineProvider.with(generator.generate()));
+            var properties = document.stream().toList();
+            var parents = properties.stream()
+                .map(Property::key)
+                .flatMap(key -> IntStream.range(0, key.length()).filter(index -> key.charAt(index) == '.').mapToObj(index -> key.substring(0, index)))
+                .collect(Collectors.toSet());
+            for (var parent : parents) {
+                var prefix = parent + ".";
+                var expected = properties.stream()
+                    .filter(property -> property.key().startsWith(prefix))
+                    .map(property -> property.key().substring(prefix.length()))
+                    .collect(Collectors.toSet());
+                var subDocument = document.subDocument(parent);
+                assertAll(
+                    () -> assertEquals(expected, subDocument.stream().map(Property::key).collect(Collectors.toSet()), parent),
+                    () -> assertTrue(expected.stream().allMatch(subDocument::hasProperty), parent)
+                );
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Packing")
+    final class Packing {
+
+        private static final String NUMBERS = """
+            ints:
+                - 1
+                - -2
+            longs:
+                - 1
+                - 12345678901
+            doubles:
+                - 0.5
+                - 1.0E-5
+            padded:
+                - 007
+                - 1.50
+            mixed:
+                - 1
+                - one
+            single: 42
+            """;
+
+        @Test
+        @DisplayName("Packed document is equal to the original one")
+        void packedDocumentIsEqualToTheOriginalOne() throws IOException {
+            var document = PermissiveDocument.from(LineProvider.with(NUMBERS));
+            var packed = document.packed();
+            assertAll(
+                () -> assertEquals(document, packed),
+                () -> assertEquals(document.hashCode(), packed.hashCode()),
+                () -> assertEquals(document.toString(), packed.toString()),
+                () -> assertEquals(packed, packed.packed()),
+                () -> assertArrayEquals(new int[]{1, -2}, packed.getMultipleInts("ints").orElseThrow()),
+                () -> assertArrayEquals(new long[]{1, 12345678901L}, packed.getMultipleLongs("longs").orElseThrow()),
+                () -> assertArrayEquals(new double[]{0.5, 1.0E-5}, packed.getMultipleDoubles("doubles").orElseThrow()),
+                () -> assertEquals(Optional.of(List.of("0.5", "1.0E-5")), packed.getMultipleStrings("doubles")),
+                () -> assertEquals(Optional.of(List.of("007", "1.50")), packed.getMultipleStrings("padded")),
+                () -> assertEquals(Optional.of(List.of("1", "one")), packed.getMultipleStrings("mixed")),
+                () -> assertThrows(NumberFormatException.class, () -> packed.getMultipleInts("mixed")),
+                () -> assertEquals(OptionalInt.of(42), packed.getSingleInt("single")),
+                () -> assertEquals(PermissiveDocument.empty(), PermissiveDocument.empty().packed())
+            );
+        }
+
+        @Test
+        @DisplayName("Packing a sub document only packs its properties")
+        void packingASubDocumentOnlyPacksItsProperties() throws IOException {
+            var document = PermissiveDocument.from(LineProvider.with("""
+                first:
+                    ints:
+                        - 1
+                        - 2
+                second.ints:
+                    - 3
+                """));
+            var packed = document.subDocument("first").packed();
+            assertAll(
+                () -> assertEquals(document.subDocument("first"), packed),
+                () -> assertArrayEquals(new int[]{1, 2}, packed.getMultipleInts("ints").orElseThrow()),
+                () -> assertFalse(packed.hasProperty("second.ints")),
+                () -> assertEquals(Optional.of(List.of("3")), document.getMultipleStrings("second.ints"))
+            );
+        }
+
     }
 
     @Nested
@@ -774,6 +1691,50 @@ final class PermissiveDocumentTest {
     }
 
 
+    @Nested
+    @Tag(TestingTag.RUNTIME)
+    @DisplayName("Generated documents")
+    final class GeneratedDocuments {
+
+        @Test
+        @DisplayName("Generator shape assertions")
+        void shapeAssertions() {
+            assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new DocumentGenerator.Shape(-1, 1, 1, 1, 0, 0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new DocumentGenerator.Shape(1, 0, 1, 1, 0, 0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new DocumentGenerator.Shape(1, 1, 1, 1, 0.5, 0.5)),
+                () -> assertThrows(NullPointerException.class, () -> new DocumentGenerator(0, null))
+            );
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource(DocumentGenerators.SEEDED)
+        @DisplayName("Generated documents are loaded with all their properties")
+        void generatedDocumentsAreLoaded(DocumentGenerator generator) throws IOException {
+            var text = generator.generate();
+            var summary = generator.writeTo(new StringBuilder());
+            var document = PermissiveDocument.from(LineProvider.with(text));
+            var singleValueProperties = document.stream().filter(SingleValueProperty.class::isInstance).count();
+            assertAll(
+                () -> assertEquals(text, generator.generate()),
+                () -> assertEquals(text.lines().count(), summary.lines()),
+                () -> assertEquals(summary.singleValueProperties(), singleValueProperties),
+                () -> assertEquals(
+                    summary.singleValueProperties() + summary.multipleValuesProperties(),
+                    document.stream().count()
+                )
+            );
+        }
+
+        @Test
+        @DisplayName("Generated documents depend on the seed")
+        void generatedDocumentsDependOnTheSeed() {
+            var shape = DocumentGenerator.Shape.withProperties(100);
+            assertNotEquals(new DocumentGenerator(1, shape).generate(), new DocumentGenerator(2, shape).generate());
+        }
+
+    }
+
     @Nested
     @Tag(TestingTag.RUNTIME)
     @Tag(TestingTag.POSSIBLY_LONG)
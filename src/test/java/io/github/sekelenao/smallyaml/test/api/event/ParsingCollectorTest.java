@@ -0,0 +1,185 @@
+package io.github.sekelenao.smallyaml.test.api.event;
+
+import io.github.sekelenao.smallyaml.api.document.PermissiveDocument;
+import io.github.sekelenao.smallyaml.api.event.ParsingCollector;
+import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.test.util.ExceptionsTester;
+import io.github.sekelenao.smallyaml.test.util.document.generator.DocumentGenerator;
+import io.github.sekelenao.smallyaml.test.util.document.generator.DocumentGenerators;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class ParsingCollectorTest {
+
+    private static final class RecordingCollector implements ParsingCollector {
+
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void collectKey(String key) {
+            calls.add("key " + key);
+        }
+
+        @Override
+        public void collectSingleValue(String key, String value) {
+            calls.add("single " + key + '=' + value);
+        }
+
+        @Override
+        public void collectListValue(String key, String value, boolean isNewList) {
+            calls.add((isNewList ? "new list " : "list ") + key + '=' + value);
+        }
+
+    }
+
+    private static final class CountingCollector implements ParsingCollector {
+
+        private int singleValues;
+
+        private int listValues;
+
+        @Override
+        public void collectSingleValue(String key, String value) {
+            singleValues++;
+        }
+
+        @Override
+        public void collectListValue(String key, String value, boolean isNewList) {
+            listValues++;
+        }
+
+    }
+
+    @Test
+    @DisplayName("Assertions")
+    void assertions() {
+        var collector = new CountingCollector();
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> ParsingCollector.collect(null, collector)),
+            () -> assertThrows(NullPointerException.class, () -> ParsingCollector.collect(LineProvider.with(""), null))
+        );
+    }
+
+    @Test
+    @DisplayName("Callbacks are called in the order of the lines")
+    void callbacksAreCalledInOrder() throws IOException {
+        var text = """
+            application:
+                name: SmallYAML
+                # Comment
+                modules:
+                    - api
+                    - internal
+            other: value
+            """;
+        var collector = ParsingCollector.collect(LineProvider.with(text), new RecordingCollector());
+        assertEquals(List.of(
+            "key application",
+            "single application.name=SmallYAML",
+            "key application.modules",
+            "new list application.modules=api",
+            "list application.modules=internal",
+            "single other=value"
+        ), collector.calls);
+    }
+
+    @Test
+    @DisplayName("Keys without value are ignored by default")
+    void keysAreIgnoredByDefault() throws IOException {
+        var collector = new CountingCollector();
+        assertAll(
+            () -> assertSame(collector, ParsingCollector.collect(LineProvider.with("first:\n    - 1\nsecond: 2"), collector)),
+            () -> assertEquals(1, collector.singleValues),
+            () -> assertEquals(1, collector.listValues)
+        );
+    }
+
+    @Test
+    @DisplayName("Errors of the document and of the collector are propagated")
+    void errorsArePropagated() {
+        var failingCollector = new ParsingCollector() {
+
+            @Override
+            public void collectSingleValue(String key, String value) {
+                throw new IllegalStateException("Rejected: " + key);
+            }
+
+            @Override
+            public void collectListValue(String key, String value, boolean isNewList) {
+                throw new IllegalStateException("Rejected: " + key);
+            }
+
+        };
+        assertAll(
+            () -> ExceptionsTester.assertIsThrownAndContains(
+                ParsingException.class,
+                () -> ParsingCollector.collect(LineProvider.with("first: 1\nsecond 2"), new CountingCollector()),
+                "missing colon"
+            ),
+            () -> ExceptionsTester.assertIsThrownAndContains(
+                IllegalStateException.class,
+                () -> ParsingCollector.collect(LineProvider.with("first:\n    second: 2"), failingCollector),
+                "Rejected: first.second"
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("The provider is not closed")
+    void providerIsNotClosed() throws IOException {
+        var isClosed = new AtomicBoolean();
+        var lineProvider = new LineProvider() {
+
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+
+            @Override
+            public String next() {
+                throw new NoSuchElementException();
+            }
+
+            @Override
+            public void close() {
+                isClosed.set(true);
+            }
+
+        };
+        ParsingCollector.collect(lineProvider, new CountingCollector());
+        assertFalse(isClosed.get());
+    }
+
+    @ParameterizedTest(name = "{displayName} ({0})")
+    @MethodSource(DocumentGenerators.SEEDED)
+    @DisplayName("Generated documents are collected with all their values")
+    void generatedDocumentsAreCollected(DocumentGenerator generator) throws IOException {
+        var text = generator.generate();
+        var document = PermissiveDocument.from(LineProvider.with(text));
+        var collector = ParsingCollector.collect(LineProvider.with(text), new CountingCollector());
+        var expectedListValues = document.stream()
+            .filter(property -> property.value() instanceof List<?>)
+            .mapToInt(property -> ((List<?>) property.value()).size())
+            .sum();
+        assertAll(
+            () -> assertEquals(document.stream().filter(property -> property.value() instanceof String).count(), collector.singleValues),
+            () -> assertEquals(expectedListValues, collector.listValues)
+        );
+    }
+
+}
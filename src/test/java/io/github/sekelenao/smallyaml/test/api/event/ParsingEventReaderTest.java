@@ -0,0 +1,206 @@
+package io.github.sekelenao.smallyaml.test.api.event;
+
+import io.github.sekelenao.smallyaml.api.document.PermissiveDocument;
+import io.github.sekelenao.smallyaml.api.document.property.MultipleValuesProperty;
+import io.github.sekelenao.smallyaml.api.document.property.Property;
+import io.github.sekelenao.smallyaml.api.document.property.SingleValueProperty;
+import io.github.sekelenao.smallyaml.api.event.KeyStartEvent;
+import io.github.sekelenao.smallyaml.api.event.ListItemEvent;
+import io.github.sekelenao.smallyaml.api.event.ParsingEvent;
+import io.github.sekelenao.smallyaml.api.event.ParsingEventReader;
+import io.github.sekelenao.smallyaml.api.event.ScalarEvent;
+import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.test.util.ExceptionsTester;
+import io.github.sekelenao.smallyaml.test.util.document.generator.DocumentGenerator;
+import io.github.sekelenao.smallyaml.test.util.document.generator.DocumentGenerators;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ParsingEventReaderTest {
+
+    private static List<ParsingEvent> readAll(String text) throws IOException {
+        var events = new ArrayList<ParsingEvent>();
+        try (var reader = ParsingEventReader.from(LineProvider.with(text))) {
+            while (reader.hasNext()) {
+                events.add(reader.next());
+            }
+        }
+        return events;
+    }
+
+    @Nested
+    @DisplayName("Events")
+    final class Events {
+
+        @Test
+        @DisplayName("Assertions")
+        void assertions() {
+            assertAll(
+                () -> assertThrows(NullPointerException.class, () -> ParsingEventReader.from(null)),
+                () -> assertThrows(NullPointerException.class, () -> new KeyStartEvent(null, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new KeyStartEvent("key", 0)),
+                () -> assertThrows(NullPointerException.class, () -> new ScalarEvent(null, "value", 1)),
+                () -> assertThrows(NullPointerException.class, () -> new ScalarEvent("key", null, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ScalarEvent("key", "value", -1)),
+                () -> assertThrows(NullPointerException.class, () -> new ListItemEvent(null, "value", true, 1)),
+                () -> assertThrows(NullPointerException.class, () -> new ListItemEvent("key", null, true, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ListItemEvent("key", "value", true, 0))
+            );
+        }
+
+        @Test
+        @DisplayName("Events are produced in the order of the lines")
+        void eventsAreProducedInOrder() throws IOException {
+            var text = """
+                # Comment
+                application:
+                    name: SmallYAML
+
+                    modules:
+                        - api
+                        # Comment inside the list
+                        - internal
+                    version.major: 0
+                other: value
+                """;
+            assertEquals(List.of(
+                new KeyStartEvent("application", 2),
+                new ScalarEvent("application.name", "SmallYAML", 3),
+                new KeyStartEvent("application.modules", 5),
+                new ListItemEvent("application.modules", "api", true, 6),
+                new ListItemEvent("application.modules", "internal", false, 8),
+                new ScalarEvent("application.version.major", "0", 9),
+                new ScalarEvent("other", "value", 10)
+            ), readAll(text));
+        }
+
+        @Test
+        @DisplayName("Types of events")
+        void typesOfEvents() {
+            assertAll(
+                () -> assertEquals(ParsingEvent.Type.KEY_START, new KeyStartEvent("key", 1).type()),
+                () -> assertEquals(ParsingEvent.Type.SCALAR, new ScalarEvent("key", "value", 1).type()),
+                () -> assertEquals(ParsingEvent.Type.LIST_ITEM, new ListItemEvent("key", "value", true, 1).type())
+            );
+        }
+
+        @Test
+        @DisplayName("Has next and next are working as expected")
+        void hasNextAndNext() throws IOException {
+            try (var reader = ParsingEventReader.from(LineProvider.with("# Comment\n\nkey: value\n# Comment"))) {
+                assertAll(
+                    () -> assertTrue(reader.hasNext() && reader.hasNext()),
+                    () -> assertEquals(new ScalarEvent("key", "value", 3), reader.next()),
+                    () -> assertFalse(reader.hasNext()),
+                    () -> assertThrows(NoSuchElementException.class, reader::next)
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Empty document has no event")
+        void emptyDocument() throws IOException {
+            assertEquals(List.of(), readAll("# Only a comment\n\n"));
+        }
+
+        @Test
+        @DisplayName("Duplicated keys are not detected")
+        void duplicatedKeysAreNotDetected() throws IOException {
+            assertEquals(
+                List.of(new ScalarEvent("key", "first", 1), new ScalarEvent("key", "second", 2)),
+                readAll("key: first\nkey: second")
+            );
+        }
+
+        @Test
+        @DisplayName("Errors are thrown when the faulty line is reached")
+        void errorsAreThrownLazily() throws IOException {
+            try (var reader = ParsingEventReader.from(LineProvider.with("first: 1\nsecond 2\nthird: 3"))) {
+                assertAll(
+                    () -> assertEquals(new ScalarEvent("first", "1", 1), reader.next()),
+                    () -> ExceptionsTester.assertIsThrownAndContains(ParsingException.class, reader::hasNext, "missing colon")
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Closing the reader closes the provider")
+        void closingClosesTheProvider() throws IOException {
+            var isClosed = new AtomicBoolean();
+            var lineProvider = new LineProvider() {
+
+                @Override
+                public boolean hasNext() {
+                    return false;
+                }
+
+                @Override
+                public String next() {
+                    throw new NoSuchElementException();
+                }
+
+                @Override
+                public void close() {
+                    isClosed.set(true);
+                }
+
+            };
+            ParsingEventReader.from(lineProvider).close();
+            assertTrue(isClosed.get());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Generated documents")
+    final class GeneratedDocuments {
+
+        private static Set<Property<?>> propertiesOf(List<ParsingEvent> events) {
+            var singleValues = new LinkedHashMap<String, String>();
+            var lists = new LinkedHashMap<String, List<String>>();
+            for (var event : events) {
+                switch (event) {
+                    case KeyStartEvent ignored -> {/* no property */}
+                    case ScalarEvent scalar -> singleValues.put(scalar.key(), scalar.value());
+                    case ListItemEvent item -> lists.computeIfAbsent(item.key(), key -> new ArrayList<>()).add(item.value());
+                }
+            }
+            var properties = new HashSet<Property<?>>();
+            singleValues.forEach((key, value) -> properties.add(new SingleValueProperty(key, value)));
+            lists.forEach((key, values) -> properties.add(new MultipleValuesProperty(key, values)));
+            return properties;
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource(DocumentGenerators.SEEDED)
+        @DisplayName("Events describe the same properties as the document")
+        void eventsDescribeTheDocument(DocumentGenerator generator) throws IOException {
+            var text = generator.generate();
+            var document = PermissiveDocument.from(LineProvider.with(text));
+            var expected = document.stream().collect(Collectors.<Property<?>>toSet());
+            assertEquals(expected, propertiesOf(readAll(text)));
+        }
+
+    }
+
+}
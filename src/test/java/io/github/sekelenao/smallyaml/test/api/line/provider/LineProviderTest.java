@@ -1,20 +1,40 @@
 package io.github.sekelenao.smallyaml.test.api.line.provider;
 
+import io.github.sekelenao.smallyaml.api.document.PermissiveDocument;
+import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
 import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.internal.parsing.line.provider.MappedFileLineProvider;
+import io.github.sekelenao.smallyaml.test.CorrectTestDocument;
+import io.github.sekelenao.smallyaml.test.util.resource.TestResource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.channels.ClosedChannelException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -99,6 +119,265 @@ final class LineProviderTest {
 
     }
 
+    @Nested
+    @DisplayName("UTF-8 InputStream line provider")
+    final class Utf8InputStreamLineProviderTest {
+
+        private static List<String> readerLines(byte[] content) throws IOException {
+            try (var reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8))) {
+                return reader.lines().toList();
+            }
+        }
+
+        private static List<String> providerLines(InputStream inputStream) throws IOException {
+            var lines = new ArrayList<String>();
+            try (var lineProvider = LineProvider.with(inputStream)) {
+                while (lineProvider.hasNext()) {
+                    lines.add(lineProvider.next());
+                }
+            }
+            return lines;
+        }
+
+        private static InputStream byteByByte(byte[] content) {
+            return new FilterInputStream(new ByteArrayInputStream(content)) {
+
+                @Override
+                public int read(byte[] bytes, int offset, int length) throws IOException {
+                    return super.read(bytes, offset, Math.min(length, 1));
+                }
+
+            };
+        }
+
+        private static Stream<byte[]> contents() {
+            return Stream.of(
+                "",
+                "\n",
+                "\r",
+                "\r\n",
+                "\n\n\r\r\n\r",
+                "first\r\nsecond\rthird\nfourth",
+                "key: value\r\n\r\n    - item\r\n",
+                "clé: valeur\nnom: 名前\r\nemoji: \uD83D\uDE00\r",
+                "a".repeat(8191) + "\r\nb",
+                "é".repeat(10_000) + "\n" + "b".repeat(20_000)
+            ).map(content -> content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @ParameterizedTest
+        @MethodSource("contents")
+        @DisplayName("Lines are split like BufferedReader::readLine")
+        void linesAreSplitLikeBufferedReader(byte[] content) throws IOException {
+            var expected = readerLines(content);
+            assertAll(
+                () -> assertEquals(expected, providerLines(new ByteArrayInputStream(content))),
+                () -> assertEquals(expected, providerLines(byteByByte(content)))
+            );
+        }
+
+        @Test
+        @DisplayName("Malformed input is replaced like with InputStreamReader")
+        void malformedInputIsReplaced() throws IOException {
+            var content = new byte[]{'k', ':', ' ', (byte) 0xC3, '\n', (byte) 0xE2, (byte) 0x82, '\r', (byte) 0xFF, 'v'};
+            assertEquals(readerLines(content), providerLines(new ByteArrayInputStream(content)));
+        }
+
+        @Test
+        @DisplayName("Closing the provider closes the stream")
+        void closingTheProviderClosesTheStream() throws IOException {
+            var isClosed = new AtomicBoolean();
+            var inputStream = new ByteArrayInputStream(new byte[0]) {
+
+                @Override
+                public void close() {
+                    isClosed.set(true);
+                }
+
+            };
+            LineProvider.with(inputStream, StandardCharsets.UTF_8).close();
+            assertTrue(isClosed.get());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Mapped file line provider")
+    final class MappedFileLineProviderTest {
+
+        @TempDir
+        private Path directory;
+
+        private static List<String> providerLines(LineProvider lineProvider) throws IOException {
+            var lines = new ArrayList<String>();
+            try (lineProvider) {
+                while (lineProvider.hasNext()) {
+                    lines.add(lineProvider.next());
+                }
+                assertThrows(NoSuchElementException.class, lineProvider::next);
+            }
+            return lines;
+        }
+
+        private Path write(byte[] content) throws IOException {
+            return Files.write(directory.resolve("document.yaml"), content);
+        }
+
+        @Test
+        @DisplayName("Assertions")
+        void assertions() throws IOException {
+            var path = write(new byte[0]);
+            assertAll(
+                () -> assertThrows(NullPointerException.class, () -> LineProvider.with((Path) null)),
+                () -> assertThrows(NoSuchFileException.class, () -> LineProvider.with(directory.resolve("missing.yaml"))),
+                () -> assertThrows(IllegalArgumentException.class, () -> new MappedFileLineProvider(path, 0))
+            );
+        }
+
+        @ParameterizedTest
+        @MethodSource("io.github.sekelenao.smallyaml.test.api.line.provider.LineProviderTest$Utf8InputStreamLineProviderTest#contents")
+        @DisplayName("Lines are split like BufferedReader::readLine")
+        void linesAreSplitLikeBufferedReader(byte[] content) throws IOException {
+            var path = write(content);
+            var expected = Utf8InputStreamLineProviderTest.readerLines(content);
+            assertAll(
+                () -> assertEquals(expected, providerLines(LineProvider.with(path))),
+                () -> assertEquals(expected, providerLines(new MappedFileLineProvider(path, 1))),
+                () -> assertEquals(expected, providerLines(new MappedFileLineProvider(path, 7)))
+            );
+        }
+
+        @Test
+        @DisplayName("Documents are loaded from mapped files")
+        void documentsAreLoadedFromMappedFiles() throws IOException, URISyntaxException {
+            var path = TestResource.find(CorrectTestDocument.APPLICATION_CONFIGURATION.resourcePath());
+            try (
+                var mappedLineProvider = LineProvider.with(path);
+                var streamLineProvider = LineProvider.with(TestResource.asInputStream(CorrectTestDocument.APPLICATION_CONFIGURATION))
+            ) {
+                assertEquals(PermissiveDocument.from(streamLineProvider), PermissiveDocument.from(mappedLineProvider));
+            }
+        }
+
+        @ParameterizedTest
+        @MethodSource("io.github.sekelenao.smallyaml.test.api.line.provider.LineProviderTest$Utf8InputStreamLineProviderTest#contents")
+        @DisplayName("Sequences are read in place with the same lines")
+        void sequencesAreReadInPlace(byte[] content) throws IOException {
+            var path = write(content);
+            var expected = Utf8InputStreamLineProviderTest.readerLines(content);
+            var sequences = new ArrayList<String>();
+            try (var lineProvider = new MappedFileLineProvider(path, 7)) {
+                while (lineProvider.hasNext()) {
+                    var sequence = lineProvider.nextSequence();
+                    assertEquals(sequence.toString(), sequence.subSequence(0, sequence.length()));
+                    sequences.add(sequence.toString());
+                }
+            }
+            assertEquals(expected, sequences);
+        }
+
+        @Test
+        @DisplayName("Closed providers cannot be read")
+        void closedProvidersCannotBeRead() throws IOException {
+            var lineProvider = LineProvider.with(write("first\nsecond".getBytes(StandardCharsets.UTF_8)));
+            assertTrue(lineProvider.hasNext());
+            lineProvider.close();
+            assertAll(
+                () -> assertThrows(ClosedChannelException.class, lineProvider::hasNext),
+                () -> assertThrows(ClosedChannelException.class, lineProvider::next),
+                () -> assertThrows(ClosedChannelException.class, lineProvider::nextSequence)
+            );
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Line sequences")
+    final class LineSequencesTest {
+
+        private static final String CONTENT = "first:\r\n    # comment\n\n    clé: valeur\nlist:\n    - item\nlast: \"quoted\"";
+
+        private static final String WRONG_CONTENT = "first:\n    - item\n    wrong line";
+
+        private static Stream<Supplier<LineProvider>> lineProviders() {
+            var bytes = CONTENT.getBytes(StandardCharsets.UTF_8);
+            return Stream.of(
+                () -> LineProvider.with(CONTENT),
+                () -> LineProvider.with(new ByteArrayInputStream(bytes)),
+                () -> LineProvider.with(new BufferedReader(new StringReader(CONTENT)))
+            );
+        }
+
+        @ParameterizedTest
+        @MethodSource("lineProviders")
+        @DisplayName("Sequences contain the same lines as strings")
+        void sequencesContainTheSameLines(Supplier<LineProvider> lineProviderSupplier) throws IOException {
+            var lines = new ArrayList<String>();
+            var sequences = new ArrayList<String>();
+            try (var lineProvider = lineProviderSupplier.get(); var sequenceProvider = lineProviderSupplier.get()) {
+                while (lineProvider.hasNext()) {
+                    lines.add(lineProvider.next());
+                    assertTrue(sequenceProvider.hasNext());
+                    var sequence = sequenceProvider.nextSequence();
+                    var characters = new StringBuilder();
+                    for (int i = 0; i < sequence.length(); i++) {
+                        characters.append(sequence.charAt(i));
+                    }
+                    assertEquals(sequence.toString(), characters.toString());
+                    assertEquals(sequence.toString(), sequence.subSequence(0, sequence.length()));
+                    sequences.add(sequence.toString());
+                }
+                assertFalse(sequenceProvider.hasNext());
+                assertThrows(NoSuchElementException.class, sequenceProvider::nextSequence);
+            }
+            assertEquals(CONTENT.lines().toList(), lines);
+            assertEquals(lines, sequences);
+        }
+
+        @ParameterizedTest
+        @MethodSource("lineProviders")
+        @DisplayName("Sequences check their bounds")
+        void sequencesCheckTheirBounds(Supplier<LineProvider> lineProviderSupplier) throws IOException {
+            try (var lineProvider = lineProviderSupplier.get()) {
+                var sequence = lineProvider.nextSequence();
+                assertAll(
+                    () -> assertEquals("first:", sequence.subSequence(0, 6).toString()),
+                    () -> assertEquals("rst", sequence.subSequence(2, 5).toString()),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(-1)),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(6)),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(3, 2)),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(0, 7))
+                );
+            }
+        }
+
+        private static Stream<Function<String, LineProvider>> lineProviderFactories() {
+            return Stream.of(
+                LineProvider::with,
+                content -> LineProvider.with(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))
+            );
+        }
+
+        @ParameterizedTest
+        @MethodSource("lineProviderFactories")
+        @DisplayName("Documents and errors are the same as with strings")
+        void documentsAndErrorsAreTheSame(Function<String, LineProvider> lineProviderFactory) throws IOException {
+            var expectedDocument = PermissiveDocument.from(LineProvider.with(new BufferedReader(new StringReader(CONTENT))));
+            var expectedException = assertThrows(
+                ParsingException.class,
+                () -> PermissiveDocument.from(LineProvider.with(new BufferedReader(new StringReader(WRONG_CONTENT))))
+            );
+            assertAll(
+                () -> assertEquals(expectedDocument, PermissiveDocument.from(lineProviderFactory.apply(CONTENT))),
+                () -> assertEquals(
+                    expectedException.getMessage(),
+                    assertThrows(ParsingException.class, () -> PermissiveDocument.from(lineProviderFactory.apply(WRONG_CONTENT))).getMessage()
+                )
+            );
+        }
+
+    }
+
     @Nested
     @DisplayName("BufferedReader line provider")
     final class BufferedReaderLineProviderTest {
@@ -126,6 +405,30 @@ final class LineProviderTest {
             }
         }
 
+
+        @ParameterizedTest
+        @MethodSource("io.github.sekelenao.smallyaml.test.api.line.provider.LineProviderTest$Utf8InputStreamLineProviderTest#contents")
+        @DisplayName("Lines are split like BufferedReader::readLine")
+        void linesAreSplitLikeReadLine(byte[] content) throws IOException {
+            var text = new String(content, StandardCharsets.UTF_8);
+            var expected = Utf8InputStreamLineProviderTest.readerLines(content);
+            var characterByCharacter = new BufferedReader(new StringReader(text)) {
+
+                @Override
+                public int read(char[] characters, int offset, int length) throws IOException {
+                    return super.read(characters, offset, Math.min(length, 1));
+                }
+
+            };
+            var lines = new ArrayList<String>();
+            try (var lineProvider = LineProvider.with(characterByCharacter)) {
+                while (lineProvider.hasNext()) {
+                    lines.add(lineProvider.next());
+                }
+            }
+            assertEquals(expected, lines);
+        }
+
     }
 
     @Nested
@@ -154,6 +457,20 @@ final class LineProviderTest {
 
         }
 
+        @Test
+        @DisplayName("String line provider handles carriage returns")
+        void stringLineProviderHandlesCarriageReturns() throws IOException {
+            var lineProvider = LineProvider.with("first:\r\n\r\n    - value\r\nsecond: 2\r\r\nthird:\r");
+            assertAll(
+                () -> assertEquals("first:", lineProvider.next()),
+                () -> assertEquals("", lineProvider.next()),
+                () -> assertEquals("    - value", lineProvider.next()),
+                () -> assertEquals("second: 2\r", lineProvider.next()),
+                () -> assertEquals("third:\r", lineProvider.next()),
+                () -> assertFalse(lineProvider.hasNext())
+            );
+        }
+
         @Test
         @DisplayName("String line provider is working")
         void stringLineProviderIsWorking2() throws IOException {
@@ -0,0 +1,63 @@
+package io.github.sekelenao.smallyaml.test.benchmark;
+
+public enum BenchmarkCorpus {
+
+    DEEP_NESTING {
+        @Override
+        String generate() {
+            var builder = new StringBuilder();
+            for (int root = 0; root < 500; root++) {
+                for (int depth = 0; depth < 16; depth++) {
+                    builder.append("    ".repeat(depth)).append("level-").append(depth);
+                    if (depth == 0) {
+                        builder.append('-').append(root);
+                    }
+                    builder.append(":\n");
+                    builder.append("    ".repeat(depth + 1)).append("value: ").append(depth).append('\n');
+                }
+            }
+            return builder.toString();
+        }
+    },
+
+    LONG_LISTS {
+        @Override
+        String generate() {
+            var builder = new StringBuilder();
+            for (int list = 0; list < 40; list++) {
+                builder.append("list-").append(list).append(":\n");
+                for (int item = 0; item < 200; item++) {
+                    builder.append("    - item-").append(item).append('\n');
+                }
+            }
+            return builder.toString();
+        }
+    },
+
+    LONG_KEYS {
+        @Override
+        String generate() {
+            var builder = new StringBuilder();
+            for (int key = 0; key < 8000; key++) {
+                builder.append("application_module-").append(key)
+                    .append(".configuration_section.very-long_property-name.with-many_parts: value\n");
+            }
+            return builder.toString();
+        }
+    },
+
+    QUOTED_VALUES {
+        @Override
+        String generate() {
+            var builder = new StringBuilder();
+            for (int key = 0; key < 8000; key++) {
+                builder.append("quoted-").append(key)
+                    .append(": \"jdbc:postgresql://localhost:5432/database-").append(key).append(" with spaces \"\n");
+            }
+            return builder.toString();
+        }
+    };
+
+    abstract String generate();
+
+}
@@ -0,0 +1,29 @@
+package io.github.sekelenao.smallyaml.test.benchmark;
+
+public final class BenchmarkDocuments {
+
+    private BenchmarkDocuments(){
+        throw new AssertionError("You cannot instantiate this class");
+    }
+
+    public static String configurationLike(int amountOfSections) {
+        var builder = new StringBuilder();
+        for (int i = 0; i < amountOfSections; i++) {
+            builder.append("# Section ").append(i).append('\n')
+                .append("section-").append(i).append(":\n")
+                .append("    name: \"service-").append(i).append("\"\n")
+                .append("    port: ").append(8000 + i).append('\n')
+                .append("    enabled: true\n")
+                .append("    weights:\n")
+                .append("        - 0.25\n")
+                .append("        - 0.5\n")
+                .append("        - 0.75\n")
+                .append("    nested:\n")
+                .append("        timeout: 30\n")
+                .append("        base-url: https://service-").append(i).append(".example.com\n")
+                .append('\n');
+        }
+        return builder.toString();
+    }
+
+}
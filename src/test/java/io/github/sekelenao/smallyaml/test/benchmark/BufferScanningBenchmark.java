@@ -0,0 +1,91 @@
+package io.github.sekelenao.smallyaml.test.benchmark;
+
+import io.github.sekelenao.smallyaml.internal.parsing.line.scanner.BufferScanner;
+import io.github.sekelenao.smallyaml.internal.parsing.line.scanner.ScalarBufferScanner;
+import io.github.sekelenao.smallyaml.test.util.document.generator.DocumentGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Splits a generated document of about 1 MB into lines with each buffer scanner, as bytes and as characters.
+ * The fork adds the vector module, which the vectorized scanner needs, and the vectorized scanner is only compiled
+ * by the vector profile: mvn -B -P benchmark,vector clean verify.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class BufferScanningBenchmark {
+
+    public enum Implementation {
+
+        SCALAR,
+
+        VECTOR
+
+    }
+
+    private static final long SEED = 20_251_018L;
+
+    private static final int AMOUNT_OF_PROPERTIES = 8000;
+
+    @Param
+    private Implementation implementation;
+
+    private BufferScanner scanner;
+
+    private byte[] bytes;
+
+    private char[] characters;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scanner = switch (implementation) {
+            case SCALAR -> new ScalarBufferScanner();
+            case VECTOR -> BufferScanner.vectorized().orElseThrow(
+                () -> new IllegalStateException("Run with the vector profile on a platform with hardware vectors")
+            );
+        };
+        var text = new DocumentGenerator(SEED, DocumentGenerator.Shape.withProperties(AMOUNT_OF_PROPERTIES)).generate();
+        bytes = text.getBytes(StandardCharsets.UTF_8);
+        characters = text.toCharArray();
+    }
+
+    @Benchmark
+    public int byteLines() {
+        var amountOfLines = 0;
+        var index = scanner.indexOfLineBreakOrNonAscii(bytes, 0, bytes.length);
+        while (index != -1) {
+            amountOfLines++;
+            index = scanner.indexOfLineBreakOrNonAscii(bytes, index + 1, bytes.length);
+        }
+        return amountOfLines;
+    }
+
+    @Benchmark
+    public int characterLines() {
+        var amountOfLines = 0;
+        var index = scanner.indexOfLineBreak(characters, 0, characters.length);
+        while (index != -1) {
+            amountOfLines++;
+            index = scanner.indexOfLineBreak(characters, index + 1, characters.length);
+        }
+        return amountOfLines;
+    }
+
+}
@@ -0,0 +1,71 @@
+package io.github.sekelenao.smallyaml.test.benchmark;
+
+import io.github.sekelenao.smallyaml.api.document.PermissiveDocument;
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.test.util.document.generator.DocumentGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Same properties with an increasing share of comment and blank lines, the allocation rate of the
+ * commented documents should stay close to the one of the bare document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentHeavyDocumentBenchmark {
+
+    private static final long SEED = 20_251_018L;
+
+    private static final int AMOUNT_OF_PROPERTIES = 20_000;
+
+    @Param({"0", "0.4", "0.7"})
+    private double commentRatio;
+
+    private String text;
+
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var shape = new DocumentGenerator.Shape(AMOUNT_OF_PROPERTIES, 6, 8, 24, commentRatio, commentRatio / 4);
+        text = new DocumentGenerator(SEED, shape).generate();
+        bytes = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PermissiveDocument fromString() throws IOException {
+        return PermissiveDocument.from(LineProvider.with(text));
+    }
+
+    @Benchmark
+    public PermissiveDocument fromBufferedReader() throws IOException {
+        return PermissiveDocument.from(LineProvider.with(new BufferedReader(new StringReader(text))));
+    }
+
+    @Benchmark
+    public PermissiveDocument fromInputStream() throws IOException {
+        return PermissiveDocument.from(LineProvider.with(new ByteArrayInputStream(bytes)));
+    }
+
+}
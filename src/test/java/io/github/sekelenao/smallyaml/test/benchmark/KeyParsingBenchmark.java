@@ -0,0 +1,85 @@
+package io.github.sekelenao.smallyaml.test.benchmark;
+
+import io.github.sekelenao.smallyaml.api.document.PermissiveDocument;
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.string.KeyParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Key-heavy documents whose keys are ASCII or accented, both classified through the Latin-1 lookup table of
+ * KeyParser, or Cyrillic, which go through Character::isLetterOrDigit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyParsingBenchmark {
+
+    public enum KeyAlphabet {
+
+        ASCII("application_module", "configuration-section", "property_name"),
+
+        ACCENTED("àpplicâtion_modulé", "cönfigurätion-séction", "prôpérty_nàme"),
+
+        CYRILLIC("приложение_модуль", "конфигурация-раздел", "имя_свойства");
+
+        private final String[] parts;
+
+        KeyAlphabet(String... parts) {
+            this.parts = parts;
+        }
+
+    }
+
+    private static final int AMOUNT_OF_KEYS = 8000;
+
+    @Param
+    private KeyAlphabet alphabet;
+
+    private String[] rawKeys;
+
+    private String text;
+
+    private final KeyParser keyParser = new KeyParser();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rawKeys = new String[AMOUNT_OF_KEYS];
+        var builder = new StringBuilder();
+        for (int key = 0; key < AMOUNT_OF_KEYS; key++) {
+            rawKeys[key] = String.join(".", alphabet.parts) + '-' + key + ':';
+            builder.append(rawKeys[key]).append(" value\n");
+        }
+        text = builder.toString();
+    }
+
+    @Benchmark
+    public void keyParser(Blackhole blackhole) {
+        for (var rawKey : rawKeys) {
+            blackhole.consume(keyParser.parse(rawKey));
+        }
+    }
+
+    @Benchmark
+    public PermissiveDocument fromString() throws IOException {
+        return PermissiveDocument.from(LineProvider.with(text));
+    }
+
+}
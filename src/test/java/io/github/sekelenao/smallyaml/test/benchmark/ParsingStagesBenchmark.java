@@ -0,0 +1,158 @@
+package io.github.sekelenao.smallyaml.test.benchmark;
+
+import io.github.sekelenao.smallyaml.api.event.ParsingCollector;
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.internal.parsing.SmallYAMLParser;
+import io.github.sekelenao.smallyaml.internal.parsing.collector.MapParsingCollector;
+import io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.LineRecordParser;
+import io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.string.KeyParser;
+import io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.string.ValueParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Each benchmark isolates one stage of the parsing pipeline and processes the whole corpus per operation.
+ * SmallYAMLParser.generateKey is private, its cost is measured through smallYAMLParser, which feeds a
+ * collector that only consumes the generated keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingStagesBenchmark {
+
+    private record CollectedValue(String key, String value, boolean isListValue, boolean isNewList) {}
+
+    @Param
+    private BenchmarkCorpus corpus;
+
+    private String text;
+
+    private String[] rawLines;
+
+    private String[] rawKeys;
+
+    private String[] rawValues;
+
+    private CollectedValue[] collectedValues;
+
+    private final LineRecordParser lineRecordParser = new LineRecordParser();
+
+    private final KeyParser keyParser = new KeyParser();
+
+    private final ValueParser valueParser = new ValueParser();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        text = corpus.generate();
+        rawLines = text.split("\n");
+        var keys = new ArrayList<String>();
+        var values = new ArrayList<String>();
+        for (var rawLine : rawLines) {
+            var line = rawLine.strip();
+            if (line.isEmpty()) {
+                continue;
+            }
+            if (line.startsWith("- ")) {
+                values.add(line.substring(1));
+                continue;
+            }
+            var indexOfColon = line.indexOf(':');
+            keys.add(line.substring(0, indexOfColon + 1));
+            if (indexOfColon != line.length() - 1) {
+                values.add(line.substring(indexOfColon + 1));
+            }
+        }
+        rawKeys = keys.toArray(String[]::new);
+        rawValues = values.toArray(String[]::new);
+        var collected = new ArrayList<CollectedValue>();
+        new SmallYAMLParser().parse(LineProvider.with(text), recordingCollector(collected));
+        collectedValues = collected.toArray(CollectedValue[]::new);
+    }
+
+    private static ParsingCollector recordingCollector(List<CollectedValue> collected) {
+        return new ParsingCollector() {
+
+            @Override
+            public void collectSingleValue(String key, String value) {
+                collected.add(new CollectedValue(key, value, false, false));
+            }
+
+            @Override
+            public void collectListValue(String key, String value, boolean isNewList) {
+                collected.add(new CollectedValue(key, value, true, isNewList));
+            }
+
+        };
+    }
+
+    @Benchmark
+    public void lineRecordParser(Blackhole blackhole) {
+        for (var rawLine : rawLines) {
+            blackhole.consume(lineRecordParser.parse(rawLine));
+        }
+    }
+
+    @Benchmark
+    public void keyParser(Blackhole blackhole) {
+        for (var rawKey : rawKeys) {
+            blackhole.consume(keyParser.parse(rawKey));
+        }
+    }
+
+    @Benchmark
+    public void valueParser(Blackhole blackhole) {
+        for (var rawValue : rawValues) {
+            blackhole.consume(valueParser.parse(rawValue));
+        }
+    }
+
+    @Benchmark
+    public void smallYAMLParser(Blackhole blackhole) throws IOException {
+        new SmallYAMLParser().parse(LineProvider.with(text), new ParsingCollector() {
+
+            @Override
+            public void collectSingleValue(String key, String value) {
+                blackhole.consume(key);
+            }
+
+            @Override
+            public void collectListValue(String key, String value, boolean isNewList) {
+                blackhole.consume(key);
+            }
+
+        });
+    }
+
+    @Benchmark
+    public MapParsingCollector mapParsingCollector() {
+        var collector = new MapParsingCollector();
+        for (var collectedValue : collectedValues) {
+            if (collectedValue.isListValue()) {
+                collector.collectListValue(collectedValue.key(), collectedValue.value(), collectedValue.isNewList());
+            } else {
+                collector.collectSingleValue(collectedValue.key(), collectedValue.value());
+            }
+        }
+        return collector;
+    }
+
+}
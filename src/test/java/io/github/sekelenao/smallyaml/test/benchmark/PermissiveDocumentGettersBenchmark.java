@@ -0,0 +1,96 @@
+package io.github.sekelenao.smallyaml.test.benchmark;
+
+import io.github.sekelenao.smallyaml.api.document.PermissiveDocument;
+import io.github.sekelenao.smallyaml.api.document.property.Property;
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissiveDocumentGettersBenchmark {
+
+    @Param({"100", "10000"})
+    private int amountOfSections;
+
+    private PermissiveDocument document;
+
+    private PermissiveDocument packedDocument;
+
+    private String singleIntKey;
+
+    private String multipleDoublesKey;
+
+    private String parentKey;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        document = PermissiveDocument.from(LineProvider.with(BenchmarkDocuments.configurationLike(amountOfSections)));
+        packedDocument = document.packed();
+        var middleSection = "section-" + amountOfSections / 2;
+        singleIntKey = middleSection + ".port";
+        multipleDoublesKey = middleSection + ".weights";
+        parentKey = middleSection;
+    }
+
+    @Benchmark
+    public boolean hasProperty() {
+        return document.hasProperty(singleIntKey);
+    }
+
+    @Benchmark
+    public Property.Type typeOf() {
+        return document.typeOf(multipleDoublesKey);
+    }
+
+    @Benchmark
+    public Optional<String> getSingleString() {
+        return document.getSingleString(singleIntKey);
+    }
+
+    @Benchmark
+    public OptionalInt getSingleInt() {
+        return document.getSingleInt(singleIntKey);
+    }
+
+    @Benchmark
+    public Optional<double[]> getMultipleDoubles() {
+        return document.getMultipleDoubles(multipleDoublesKey);
+    }
+
+    @Benchmark
+    public double getMultipleDoubleStream() {
+        return document.getMultipleDoubleStream(multipleDoublesKey).orElseThrow().sum();
+    }
+
+    @Benchmark
+    public double getMultipleDoubleStreamPacked() {
+        return packedDocument.getMultipleDoubleStream(multipleDoublesKey).orElseThrow().sum();
+    }
+
+    @Benchmark
+    public Set<String> subKeysOf() {
+        return document.subKeysOf(parentKey);
+    }
+
+}
@@ -0,0 +1,75 @@
+package io.github.sekelenao.smallyaml.test.benchmark;
+
+import io.github.sekelenao.smallyaml.api.document.PermissiveDocument;
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissiveDocumentLoadingBenchmark {
+
+    @Param({"100", "10000"})
+    private int amountOfSections;
+
+    private String text;
+
+    private byte[] utf8Bytes;
+
+    private byte[] latin1Bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = BenchmarkDocuments.configurationLike(amountOfSections);
+        utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+        latin1Bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Benchmark
+    public PermissiveDocument fromString() throws IOException {
+        return PermissiveDocument.from(LineProvider.with(text));
+    }
+
+    @Benchmark
+    public PermissiveDocument fromBufferedReader() throws IOException {
+        try (var lineProvider = LineProvider.with(new BufferedReader(new StringReader(text)))) {
+            return PermissiveDocument.from(lineProvider);
+        }
+    }
+
+    @Benchmark
+    public PermissiveDocument fromInputStream() throws IOException {
+        try (var lineProvider = LineProvider.with(new ByteArrayInputStream(utf8Bytes))) {
+            return PermissiveDocument.from(lineProvider);
+        }
+    }
+
+    @Benchmark
+    public PermissiveDocument fromInputStreamWithCharset() throws IOException {
+        try (var lineProvider = LineProvider.with(new ByteArrayInputStream(latin1Bytes), StandardCharsets.ISO_8859_1)) {
+            return PermissiveDocument.from(lineProvider);
+        }
+    }
+
+}
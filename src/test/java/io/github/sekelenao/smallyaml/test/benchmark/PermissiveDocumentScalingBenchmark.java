@@ -0,0 +1,85 @@
+package io.github.sekelenao.smallyaml.test.benchmark;
+
+import io.github.sekelenao.smallyaml.api.document.PermissiveDocument;
+import io.github.sekelenao.smallyaml.api.document.ValidationResult;
+import io.github.sekelenao.smallyaml.api.line.provider.LineProvider;
+import io.github.sekelenao.smallyaml.test.util.document.generator.DocumentGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Loads generated documents from disk. With the default shape, a property takes about 130 bytes,
+ * so the default parameters cover roughly 1 KB, 1 MB and 100 MB. Larger sizes can be requested with
+ * -Dbenchmark.options='-p amountOfProperties=7500000' (about 1 GB).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PermissiveDocumentScalingBenchmark {
+
+    private static final long SEED = 20_251_018L;
+
+    @Param({"8", "8000", "800000"})
+    private int amountOfProperties;
+
+    private Path document;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        document = Files.createTempFile("small-yaml-scaling-", ".yaml");
+        new DocumentGenerator(SEED, DocumentGenerator.Shape.withProperties(amountOfProperties)).writeTo(document);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(document);
+    }
+
+    @Benchmark
+    public PermissiveDocument fromInputStream() throws IOException {
+        try (var inputStream = Files.newInputStream(document); var lineProvider = LineProvider.with(inputStream)) {
+            return PermissiveDocument.from(lineProvider);
+        }
+    }
+
+    @Benchmark
+    public PermissiveDocument fromMappedFile() throws IOException {
+        try (var lineProvider = LineProvider.with(document)) {
+            return PermissiveDocument.from(lineProvider);
+        }
+    }
+
+    @Benchmark
+    public ValidationResult validateMappedFile() throws IOException {
+        try (var lineProvider = LineProvider.with(document)) {
+            return PermissiveDocument.validate(lineProvider);
+        }
+    }
+
+    @Benchmark
+    public PermissiveDocument fromMappedFileInParallel() throws IOException {
+        try (var lineProvider = LineProvider.with(document)) {
+            return PermissiveDocument.fromInParallel(lineProvider);
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package io.github.sekelenao.smallyaml.test.internal.collection;
+
+import io.github.sekelenao.smallyaml.internal.collection.KeyHashSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class KeyHashSetTest {
+
+    @Test
+    @DisplayName("Keys are added once")
+    void keysAreAddedOnce() {
+        var set = new KeyHashSet();
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> set.add(null)),
+            () -> assertTrue(set.add("first.key")),
+            () -> assertTrue(set.add("")),
+            () -> assertFalse(set.add("first.key")),
+            () -> assertFalse(set.add("")),
+            () -> assertEquals(2, set.size())
+        );
+    }
+
+    @Test
+    @DisplayName("Similar keys are distinct while the set grows")
+    void similarKeysAreDistinct() {
+        var set = new KeyHashSet();
+        var amountOfKeys = 200_000;
+        assertAll(
+            () -> assertTrue(IntStream.range(0, amountOfKeys).allMatch(index -> set.add("application.module" + index + ".property"))),
+            () -> assertTrue(IntStream.range(0, amountOfKeys).noneMatch(index -> set.add("application.module" + index + ".property"))),
+            () -> assertEquals(amountOfKeys, set.size())
+        );
+    }
+
+    @Test
+    @DisplayName("Hash hits are confirmed on demand")
+    void hashHitsAreConfirmedOnDemand() {
+        var hashesOnly = new KeyHashSet(false, key -> 42L);
+        var confirmed = new KeyHashSet(true, key -> 42L);
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> new KeyHashSet(true, null)),
+            () -> assertTrue(hashesOnly.add("first.key")),
+            () -> assertFalse(hashesOnly.add("second.key")),
+            () -> assertEquals(1, hashesOnly.size()),
+            () -> assertTrue(IntStream.range(0, 100).allMatch(index -> confirmed.add("key" + index))),
+            () -> assertTrue(IntStream.range(0, 100).noneMatch(index -> confirmed.add("key" + index))),
+            () -> assertEquals(100, confirmed.size())
+        );
+    }
+
+    @Test
+    @DisplayName("A zero hash is not mistaken for an empty slot")
+    void zeroHashIsStored() {
+        var set = new KeyHashSet(true, key -> 0L);
+        assertAll(
+            () -> assertTrue(set.add("first.key")),
+            () -> assertFalse(set.add("first.key")),
+            () -> assertTrue(set.add("second.key"))
+        );
+    }
+
+}
@@ -0,0 +1,188 @@
+package io.github.sekelenao.smallyaml.test.internal.collection;
+
+import io.github.sekelenao.smallyaml.api.exception.document.WrongPropertyTypeException;
+import io.github.sekelenao.smallyaml.internal.collection.Conversion;
+import io.github.sekelenao.smallyaml.internal.collection.PropertyStore;
+import io.github.sekelenao.smallyaml.internal.collection.ValueList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class PropertyStoreTest {
+
+    @Test
+    @DisplayName("Assertions")
+    void assertions() {
+        var mapWithNullKey = new HashMap<String, Object>();
+        mapWithNullKey.put(null, "value");
+        var mapWithNullValue = new HashMap<String, Object>();
+        mapWithNullValue.put("key", null);
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> PropertyStore.copyOf(null)),
+            () -> assertThrows(NullPointerException.class, () -> PropertyStore.copyOf(mapWithNullKey)),
+            () -> assertThrows(NullPointerException.class, () -> PropertyStore.copyOf(mapWithNullValue)),
+            () -> assertThrows(NullPointerException.class, () -> PropertyStore.EMPTY.get(null)),
+            () -> assertThrows(NullPointerException.class, () -> PropertyStore.EMPTY.containsKey(null)),
+            () -> assertThrows(NullPointerException.class, () -> PropertyStore.EMPTY.scopedTo(null)),
+            () -> assertThrows(NullPointerException.class, () -> PropertyStore.EMPTY.subKeysOf(null)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> PropertyStore.EMPTY.keyAt(0))
+        );
+    }
+
+    @ParameterizedTest(name = "{displayName} ({0})")
+    @ValueSource(ints = {0, 1, 2, 3, 7, 8, 9, 1_000, 100_000})
+    @DisplayName("Every key is found")
+    void everyKeyIsFound(int size) {
+        var map = new HashMap<String, Object>();
+        IntStream.range(0, size).forEach(index -> map.put("application.module" + index + ".property", "value" + index));
+        var store = PropertyStore.copyOf(map);
+        assertAll(
+            () -> assertEquals(size, store.size()),
+            () -> assertTrue(IntStream.range(0, size).allMatch(index -> store.get("application.module" + index + ".property").equals("value" + index))),
+            () -> assertTrue(IntStream.range(0, size).noneMatch(index -> store.containsKey("application.module" + index + ".other"))),
+            () -> assertNull(store.get("")),
+            () -> assertFalse(store.containsKey("unknown"))
+        );
+    }
+
+    @Test
+    @DisplayName("Entries keep the iteration order of the source map")
+    void entriesKeepTheIterationOrder() {
+        var map = new LinkedHashMap<String, Object>();
+        map.put("second", "2");
+        map.put("first", new ValueList("1"));
+        map.put("third", "3");
+        var store = PropertyStore.copyOf(map);
+        assertAll(
+            () -> assertEquals("second", store.keyAt(0)),
+            () -> assertEquals("first", store.keyAt(1)),
+            () -> assertEquals(new ValueList("1"), store.valueAt(1)),
+            () -> assertEquals("third", store.keyAt(2)),
+            () -> assertEquals(map.toString(), store.toString())
+        );
+    }
+
+    @Test
+    @DisplayName("Lists of numbers are only packed on demand")
+    void listsOfNumbersAreOnlyPackedOnDemand() {
+        var first = new String("1");
+        var numbers = new ValueList(first);
+        numbers.add("2");
+        var store = PropertyStore.copyOf(Map.of("numbers", numbers, "single", "3"));
+        var packed = store.packed();
+        var packedNumbers = (ValueList) packed.get("numbers");
+        assertAll(
+            () -> assertSame(numbers, store.get("numbers")),
+            () -> assertFalse(numbers.isPacked()),
+            () -> assertSame(first, numbers.asListView().getFirst()),
+            () -> assertTrue(packedNumbers.isPacked()),
+            () -> assertEquals(numbers, packedNumbers),
+            () -> assertEquals(store, packed),
+            () -> assertEquals("3", packed.get("single")),
+            () -> assertArrayEquals(new int[]{1, 2}, packed.getConverted("numbers", Conversion.MULTIPLE_INTS)),
+            () -> assertFalse(numbers.isPacked())
+        );
+    }
+
+    @Test
+    @DisplayName("Equals and hashcode are the ones of a map")
+    void equalsAndHashCodeAreTheOnesOfAMap() {
+        var map = new LinkedHashMap<String, Object>();
+        map.put("first", "1");
+        map.put("second", new ValueList("2"));
+        var reversedMap = new LinkedHashMap<String, Object>();
+        reversedMap.put("second", new ValueList("2"));
+        reversedMap.put("first", "1");
+        var store = PropertyStore.copyOf(map);
+        assertAll(
+            () -> assertEquals(store, PropertyStore.copyOf(reversedMap)),
+            () -> assertEquals(map.hashCode(), store.hashCode()),
+            () -> assertEquals(0, PropertyStore.EMPTY.hashCode()),
+            () -> assertEquals("{}", PropertyStore.EMPTY.toString()),
+            () -> assertNotEquals(store, PropertyStore.copyOf(Map.of("first", "1"))),
+            () -> assertNotEquals(store, PropertyStore.copyOf(Map.of("first", "1", "second", "2"))),
+            () -> assertNotEquals(store, PropertyStore.copyOf(Map.of("first", "1", "third", new ValueList("2")))),
+            () -> assertFalse(store.equals(map))
+        );
+    }
+
+    @Test
+    @DisplayName("Scoped stores see the keys under their prefix relative to it")
+    void scopedStoresSeeRelativeKeys() {
+        var map = new HashMap<String, Object>();
+        map.put("a", "root");
+        map.put("a.b", "1");
+        map.put("a.c.d", new ValueList("2"));
+        map.put("a.c.e", "3");
+        map.put("ab.b", "4");
+        var store = PropertyStore.copyOf(map);
+        var scoped = store.scopedTo("a");
+        var nested = scoped.scopedTo("c");
+        assertAll(
+            () -> assertEquals(3, scoped.size()),
+            () -> assertEquals("b", scoped.keyAt(0)),
+            () -> assertEquals("c.d", scoped.keyAt(1)),
+            () -> assertSame(scoped.keyAt(1), scoped.keyAt(1)),
+            () -> assertEquals(new ValueList("2"), scoped.valueAt(1)),
+            () -> assertEquals("1", scoped.get("b")),
+            () -> assertEquals("3", scoped.get("c.e")),
+            () -> assertNull(scoped.get("a.b")),
+            () -> assertNull(scoped.get("")),
+            () -> assertFalse(scoped.containsKey("c")),
+            () -> assertEquals(Set.of("a.c"), store.subKeysOf("a")),
+            () -> assertTrue(scoped.subKeysOf("c").isEmpty()),
+            () -> assertEquals(PropertyStore.copyOf(Map.of("d", new ValueList("2"), "e", "3")), nested),
+            () -> assertEquals(Map.of("d", new ValueList("2"), "e", "3").hashCode(), nested.hashCode()),
+            () -> assertEquals("{d=[2], e=3}", nested.toString()),
+            () -> assertEquals(0, store.scopedTo("b").size()),
+            () -> assertEquals(PropertyStore.EMPTY, nested.scopedTo("d")),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> nested.keyAt(2)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> nested.keyAt(-1))
+        );
+    }
+
+    @Test
+    @DisplayName("Conversions are cached and shared with scoped stores")
+    void conversionsAreCachedAndShared() {
+        var map = new HashMap<String, Object>();
+        map.put("a.int", "1");
+        map.put("a.ints", new ValueList("2"));
+        map.put("a.wrong", "two");
+        var store = PropertyStore.copyOf(map);
+        var scoped = store.scopedTo("a");
+        var ints = store.getConverted("a.ints", Conversion.MULTIPLE_INTS);
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> store.getConverted(null, Conversion.SINGLE_INT)),
+            () -> assertThrows(NullPointerException.class, () -> store.getConverted("a.int", null)),
+            () -> assertNull(store.getConverted("unknown", Conversion.SINGLE_INT)),
+            () -> assertEquals(OptionalInt.of(1), store.getConverted("a.int", Conversion.SINGLE_INT)),
+            () -> assertSame(store.getConverted("a.int", Conversion.SINGLE_INT), scoped.getConverted("int", Conversion.SINGLE_INT)),
+            () -> assertSame(store.getConverted("a.int", Conversion.SINGLE_LONG), store.getConverted("a.int", Conversion.SINGLE_LONG)),
+            () -> assertArrayEquals(new int[]{2}, ints),
+            () -> assertSame(ints, scoped.getConverted("ints", Conversion.MULTIPLE_INTS)),
+            () -> assertThrows(WrongPropertyTypeException.class, () -> store.getConverted("a.ints", Conversion.SINGLE_INT)),
+            () -> assertThrows(WrongPropertyTypeException.class, () -> store.getConverted("a.int", Conversion.MULTIPLE_INTS)),
+            () -> assertThrows(NumberFormatException.class, () -> store.getConverted("a.wrong", Conversion.SINGLE_INT)),
+            () -> assertThrows(NumberFormatException.class, () -> scoped.getConverted("wrong", Conversion.SINGLE_INT))
+        );
+    }
+
+}
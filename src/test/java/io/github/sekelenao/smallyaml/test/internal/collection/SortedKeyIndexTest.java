@@ -0,0 +1,65 @@
+package io.github.sekelenao.smallyaml.test.internal.collection;
+
+import io.github.sekelenao.smallyaml.internal.collection.PropertyStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class SortedKeyIndexTest {
+
+    private static final PropertyStore STORE = PropertyStore.copyOf(Map.of(
+        "b.c", "1",
+        "a", "2",
+        "b.a", "3",
+        "b-c", "4",
+        "c.a.b", "5"
+    ));
+
+    @Test
+    @DisplayName("Assertions")
+    void assertions() {
+        var index = STORE.sortedKeyIndex();
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> index.startOf(null)),
+            () -> assertThrows(NullPointerException.class, () -> index.endOf(null, 0, 0)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> index.endOf("b.", 3, 0))
+        );
+    }
+
+    @Test
+    @DisplayName("Keys are sorted and point to their entry")
+    void keysAreSorted() {
+        var index = STORE.sortedKeyIndex();
+        assertAll(
+            () -> assertSame(index, STORE.sortedKeyIndex()),
+            () -> assertEquals(STORE.size(), index.size()),
+            () -> assertTrue(IntStream.range(1, index.size()).allMatch(position -> index.keyAt(position - 1).compareTo(index.keyAt(position)) < 0)),
+            () -> assertTrue(IntStream.range(0, index.size()).allMatch(position -> STORE.keyAt(index.entryIndexAt(position)).equals(index.keyAt(position))))
+        );
+    }
+
+    @Test
+    @DisplayName("Keys starting with a prefix are contiguous")
+    void keysStartingWithAPrefixAreContiguous() {
+        var index = STORE.sortedKeyIndex();
+        var start = index.startOf("b.");
+        assertAll(
+            () -> assertEquals("b.a", index.keyAt(start)),
+            () -> assertEquals(start + 2, index.endOf("b.", 2, start)),
+            () -> assertEquals(start + 2, index.endOf("b.a", 2, start)),
+            () -> assertEquals(index.size(), index.startOf("d")),
+            () -> assertEquals(0, index.startOf("")),
+            () -> assertEquals(index.size(), index.endOf("", 0, 0)),
+            () -> assertEquals(0, PropertyStore.EMPTY.sortedKeyIndex().startOf("a"))
+        );
+    }
+
+}
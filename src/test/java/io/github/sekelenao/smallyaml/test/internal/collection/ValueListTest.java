@@ -7,10 +7,14 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -20,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -323,6 +328,204 @@ final class ValueListTest {
 
     }
 
+    @Nested
+    @DisplayName("Packing")
+    final class Packing {
+
+        private static ValueList listOf(String... values) {
+            var list = new ValueList(values[0]);
+            for (var index = 1; index < values.length; index++) {
+                list.add(values[index]);
+            }
+            return list;
+        }
+
+        private static List<List<String>> notPackedLists() {
+            return List.of(
+                List.of("1", "a"),
+                List.of("007"),
+                List.of("+1"),
+                List.of("-0"),
+                List.of("-"),
+                List.of(""),
+                List.of("1234567890123456789"),
+                List.of("1.50"),
+                List.of("1e3"),
+                List.of(".5"),
+                List.of("5."),
+                List.of("1.2.3"),
+                List.of("1", "2.5"),
+                List.of("2.5", "1"),
+                List.of("10000000.0"),
+                List.of("true", "false")
+            );
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @MethodSource("notPackedLists")
+        @DisplayName("Lists that are not canonical numbers are not packed")
+        void listsThatAreNotCanonicalNumbersAreNotPacked(List<String> values) {
+            var list = listOf(values.toArray(String[]::new));
+            assertAll(
+                () -> assertSame(list, list.packed()),
+                () -> assertFalse(list.packed().isPacked())
+            );
+        }
+
+        @Test
+        @DisplayName("Integers are packed and keep their strings")
+        void integersArePacked() {
+            var ints = listOf("0", "-1", "2147483647", "-2147483648");
+            var longs = listOf("1", "2147483648", "-123456789012345678");
+            var packedInts = ints.packed();
+            var packedLongs = longs.packed();
+            assertAll(
+                () -> assertTrue(packedInts.isPacked()),
+                () -> assertTrue(packedLongs.isPacked()),
+                () -> assertSame(packedInts, packedInts.packed()),
+                () -> assertEquals(ints, packedInts),
+                () -> assertEquals(packedLongs, longs),
+                () -> assertEquals(ints.hashCode(), packedInts.hashCode()),
+                () -> assertEquals(ints.toString(), packedInts.toString()),
+                () -> assertEquals(ints.asListView(), packedInts.asListView()),
+                () -> assertEquals("-1", packedInts.get(1)),
+                () -> assertEquals(4, packedInts.size()),
+                () -> assertArrayEquals(new int[]{0, -1, 2147483647, -2147483648}, packedInts.asArrayOfInts()),
+                () -> assertArrayEquals(new long[]{0, -1, 2147483647, -2147483648}, packedInts.asArrayOfLongs()),
+                () -> assertArrayEquals(new double[]{0, -1, 2147483647, -2147483648}, packedInts.asArrayOfDoubles()),
+                () -> assertArrayEquals(new long[]{1, 2147483648L, -123456789012345678L}, packedLongs.asArrayOfLongs()),
+                () -> assertArrayEquals(longs.asArrayOfDoubles(), packedLongs.asArrayOfDoubles()),
+                () -> assertThrows(NumberFormatException.class, packedLongs::asArrayOfInts),
+                () -> assertThrows(BooleanFormatException.class, packedInts::asArrayOfStrictBooleans),
+                () -> assertThrows(IllegalStateException.class, () -> packedInts.add("1"))
+            );
+        }
+
+        @Test
+        @DisplayName("Decimals are packed and keep their strings")
+        void decimalsArePacked() {
+            var doubles = listOf("0.5", "-2.25", "100.0", "-0.0", "0.1");
+            var packedDoubles = doubles.packed();
+            assertAll(
+                () -> assertTrue(packedDoubles.isPacked()),
+                () -> assertEquals(doubles, packedDoubles),
+                () -> assertEquals(doubles.toString(), packedDoubles.toString()),
+                () -> assertArrayEquals(new double[]{0.5, -2.25, 100.0, -0.0, 0.1}, packedDoubles.asArrayOfDoubles()),
+                () -> assertThrows(NumberFormatException.class, packedDoubles::asArrayOfInts),
+                () -> assertThrows(NumberFormatException.class, packedDoubles::asArrayOfLongs)
+            );
+        }
+
+        @Test
+        @DisplayName("Arrays of packed lists are copies")
+        void arraysOfPackedListsAreCopies() {
+            var packedInts = listOf("1", "2").packed();
+            var packedLongs = listOf("4294967296").packed();
+            var packedDoubles = listOf("1.5").packed();
+            packedInts.asArrayOfInts()[0] = 10;
+            packedLongs.asArrayOfLongs()[0] = 10;
+            packedDoubles.asArrayOfDoubles()[0] = 10;
+            assertAll(
+                () -> assertArrayEquals(new int[]{1, 2}, packedInts.asArrayOfInts()),
+                () -> assertArrayEquals(new long[]{4294967296L}, packedLongs.asArrayOfLongs()),
+                () -> assertArrayEquals(new double[]{1.5}, packedDoubles.asArrayOfDoubles())
+            );
+        }
+
+        @Test
+        @DisplayName("Strings of a packed list are rebuilt for iteration and streams")
+        void stringsOfAPackedListAreRebuilt() {
+            var expected = IntStream.range(0, 5_000).mapToObj(Integer::toString).toList();
+            var packed = listOf(expected.toArray(String[]::new)).packed();
+            var iterated = new ArrayList<String>();
+            packed.forEach(iterated::add);
+            assertAll(
+                () -> assertTrue(packed.isPacked()),
+                () -> assertEquals(expected, iterated),
+                () -> assertEquals(expected, packed.asListView().stream().parallel().toList()),
+                () -> assertEquals(expected.size(), packed.asListView(Integer::parseInt).stream().parallel().distinct().count())
+            );
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Primitive streams")
+    final class PrimitiveStreams {
+
+        private static ValueList listOfSize(int size) {
+            var list = new ValueList("0");
+            for (var index = 1; index < size; index++) {
+                list.add(Integer.toString(index));
+            }
+            return list;
+        }
+
+        @ParameterizedTest(name = "{displayName} ({0})")
+        @ValueSource(ints = {1, 2, 1_023, 1_024, 5_000})
+        @DisplayName("Primitive streams hold the values sequential and parallel")
+        void primitiveStreamsHoldTheValues(int size) {
+            var list = listOfSize(size);
+            var packed = list.packed();
+            var expectedSum = (long) size * (size - 1) / 2;
+            assertAll(
+                () -> assertArrayEquals(IntStream.range(0, size).toArray(), list.intStream().toArray()),
+                () -> assertArrayEquals(IntStream.range(0, size).toArray(), packed.intStream().parallel().toArray()),
+                () -> assertEquals(expectedSum, list.longStream().parallel().sum()),
+                () -> assertEquals(expectedSum, packed.longStream().sum()),
+                () -> assertEquals((double) expectedSum, list.doubleStream().parallel().sum()),
+                () -> assertEquals((double) expectedSum, packed.doubleStream().parallel().sum())
+            );
+        }
+
+        @Test
+        @DisplayName("Primitive spliterators split in halves from 1024 values")
+        void primitiveSpliteratorsSplitInHalves() {
+            var small = listOfSize(1_023).intStream().spliterator();
+            var spliterator = listOfSize(2_048).longStream().spliterator();
+            var prefix = spliterator.trySplit();
+            assertAll(
+                () -> assertNull(small.trySplit()),
+                () -> assertEquals(1_023, small.getExactSizeIfKnown()),
+                () -> assertTrue(small.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)),
+                () -> assertNotNull(prefix),
+                () -> assertEquals(1_024, prefix.estimateSize()),
+                () -> assertEquals(1_024, spliterator.estimateSize()),
+                () -> assertTrue(prefix.tryAdvance((long value) -> assertEquals(0, value))),
+                () -> assertTrue(spliterator.tryAdvance((long value) -> assertEquals(1_024, value)))
+            );
+        }
+
+        @Test
+        @DisplayName("Primitive streams parse values lazily")
+        void primitiveStreamsParseValuesLazily() {
+            var list = new ValueList("1");
+            list.add("2.5");
+            list.add("NotANumber");
+            assertAll(
+                () -> assertArrayEquals(new int[]{1}, list.intStream().limit(1).toArray()),
+                () -> assertArrayEquals(new double[]{1, 2.5}, list.doubleStream().limit(2).toArray()),
+                () -> assertThrows(NumberFormatException.class, () -> list.intStream().limit(2).toArray()),
+                () -> assertThrows(NumberFormatException.class, () -> list.longStream().sum()),
+                () -> assertThrows(NumberFormatException.class, () -> list.doubleStream().sum())
+            );
+        }
+
+        @Test
+        @DisplayName("Primitive streams of packed lists are widened")
+        void primitiveStreamsOfPackedListsAreWidened() {
+            var packedLongs = new ValueList("4294967296").packed();
+            var packedDoubles = new ValueList("1.5").packed();
+            assertAll(
+                () -> assertArrayEquals(new double[]{4294967296.0}, packedLongs.doubleStream().toArray()),
+                () -> assertArrayEquals(new long[]{4294967296L}, packedLongs.longStream().toArray()),
+                () -> assertThrows(NumberFormatException.class, () -> packedLongs.intStream().sum()),
+                () -> assertThrows(NumberFormatException.class, () -> packedDoubles.longStream().sum())
+            );
+        }
+
+    }
+
     @Nested
     @DisplayName("Equals, hashcode and toString")
     final class EqualsHashcodeToString {
@@ -0,0 +1,90 @@
+package io.github.sekelenao.smallyaml.test.internal.parsing;
+
+import io.github.sekelenao.smallyaml.api.exception.ErrorKind;
+import io.github.sekelenao.smallyaml.api.exception.document.DuplicatedPropertyException;
+import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
+import io.github.sekelenao.smallyaml.internal.parsing.ParsingExceptionFactory;
+import io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.LineRecordParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ParsingExceptionFactoryTest {
+
+    @Test
+    @DisplayName("Assertions")
+    void assertions() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> ParsingException.of(null, "details", "raw", false)),
+            () -> assertThrows(NullPointerException.class, () -> ParsingException.of(ErrorKind.KEY, null, "raw", false)),
+            () -> assertThrows(NullPointerException.class, () -> ParsingException.of(ErrorKind.KEY, "details", null, false)),
+            () -> assertThrows(IllegalArgumentException.class, () -> ParsingException.of(ErrorKind.DUPLICATED_PROPERTY, "details", "raw", false)),
+            () -> assertThrows(NullPointerException.class, () -> new LineRecordParser(null))
+        );
+    }
+
+    @Test
+    @DisplayName("Exceptions are the same without stack trace")
+    void exceptionsAreTheSameWithoutStackTrace() {
+        var withStackTraces = ParsingExceptionFactory.WITH_STACK_TRACES;
+        var withoutStackTraces = ParsingExceptionFactory.WITHOUT_STACK_TRACES;
+        var expectedWrongValue = withStackTraces.wrongValue("empty value", " ");
+        var expectedWrongKey = withStackTraces.wrongKey("missing colon", "key");
+        var expectedWrongIndentation = withStackTraces.wrongIndentation("unexpected whitespace", "\tkey: value");
+        var expectedDuplicatedProperty = withStackTraces.duplicatedProperty("key");
+        var wrongValue = withoutStackTraces.wrongValue("empty value", " ");
+        var wrongKey = withoutStackTraces.wrongKey("missing colon", "key");
+        var wrongIndentation = withoutStackTraces.wrongIndentation("unexpected whitespace", "\tkey: value");
+        var duplicatedProperty = withoutStackTraces.duplicatedProperty("key");
+        assertAll(
+            () -> assertEquals(expectedWrongValue.getMessage(), wrongValue.getMessage()),
+            () -> assertEquals(expectedWrongKey.getMessage(), wrongKey.getMessage()),
+            () -> assertEquals(expectedWrongIndentation.getMessage(), wrongIndentation.getMessage()),
+            () -> assertEquals(expectedDuplicatedProperty.getMessage(), duplicatedProperty.getMessage()),
+            () -> assertEquals(ErrorKind.VALUE, wrongValue.kind()),
+            () -> assertEquals(ErrorKind.KEY, wrongKey.kind()),
+            () -> assertEquals(ErrorKind.INDENTATION, wrongIndentation.kind()),
+            () -> assertTrue(expectedWrongKey.getStackTrace().length > 0),
+            () -> assertTrue(expectedDuplicatedProperty.getStackTrace().length > 0),
+            () -> assertEquals(0, wrongValue.getStackTrace().length),
+            () -> assertEquals(0, wrongKey.getStackTrace().length),
+            () -> assertEquals(0, wrongIndentation.getStackTrace().length),
+            () -> assertEquals(0, duplicatedProperty.getStackTrace().length)
+        );
+    }
+
+    @Test
+    @DisplayName("Messages are built once")
+    void messagesAreBuiltOnce() {
+        var parsingException = ParsingException.wrongKey("missing colon", "key");
+        var duplicatedPropertyException = DuplicatedPropertyException.forFollowing("key", false);
+        assertAll(
+            () -> assertEquals("Invalid key: missing colon for: 'key'", parsingException.getMessage()),
+            () -> assertSame(parsingException.getMessage(), parsingException.getMessage()),
+            () -> assertEquals("Duplicated property 'key'", duplicatedPropertyException.getMessage()),
+            () -> assertSame(duplicatedPropertyException.getMessage(), duplicatedPropertyException.getMessage()),
+            () -> assertTrue(parsingException.toString().endsWith(parsingException.getMessage()))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\t key: value", "key value", "key:value", "-value", "- ", "k y: value"})
+    @DisplayName("Line parsing errors have no stack trace")
+    void lineParsingErrorsHaveNoStackTrace(String rawLine) {
+        var expected = assertThrows(ParsingException.class, () -> new LineRecordParser().parse(rawLine));
+        var parser = new LineRecordParser(ParsingExceptionFactory.WITHOUT_STACK_TRACES);
+        var actual = assertThrows(ParsingException.class, () -> parser.parse(rawLine));
+        assertAll(
+            () -> assertEquals(expected.getMessage(), actual.getMessage()),
+            () -> assertEquals(0, actual.getStackTrace().length)
+        );
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.github.sekelenao.smallyaml.test.internal.parsing.filter;
+
+import io.github.sekelenao.smallyaml.internal.parsing.filter.KeyFilter;
+import io.github.sekelenao.smallyaml.internal.parsing.filter.PredicateKeyFilter;
+import io.github.sekelenao.smallyaml.internal.parsing.filter.PrefixKeyFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class KeyFilterTest {
+
+    @Test
+    @DisplayName("Assertions")
+    void assertions() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> new PredicateKeyFilter(null)),
+            () -> assertThrows(NullPointerException.class, () -> new PrefixKeyFilter(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new PrefixKeyFilter(List.of("db", "")))
+        );
+    }
+
+    @Test
+    @DisplayName("All keys are retained by default")
+    void allKeysAreRetained() {
+        assertAll(
+            () -> assertTrue(KeyFilter.ALL.retains("any.key")),
+            () -> assertTrue(KeyFilter.ALL.mayRetainUnder("any"))
+        );
+    }
+
+    @Test
+    @DisplayName("Predicate filter may retain keys under any scope")
+    void predicateFilter() {
+        var filter = new PredicateKeyFilter(key -> key.endsWith(".port"));
+        assertAll(
+            () -> assertTrue(filter.retains("db.port")),
+            () -> assertFalse(filter.retains("db.host")),
+            () -> assertTrue(filter.mayRetainUnder("cache"))
+        );
+    }
+
+    @Test
+    @DisplayName("Prefix filter retains keys on part boundaries")
+    void prefixFilterRetainsKeys() {
+        var filter = new PrefixKeyFilter(List.of("DB", "metrics.db", "db"));
+        assertAll(
+            () -> assertTrue(filter.retains("db")),
+            () -> assertTrue(filter.retains("db.host")),
+            () -> assertTrue(filter.retains("metrics.db.enabled")),
+            () -> assertFalse(filter.retains("dbx")),
+            () -> assertFalse(filter.retains("d")),
+            () -> assertFalse(filter.retains("metrics")),
+            () -> assertFalse(filter.retains("metrics.dbx"))
+        );
+    }
+
+    @Test
+    @DisplayName("Prefix filter knows the scopes without retained keys")
+    void prefixFilterKnowsExcludedScopes() {
+        var filter = new PrefixKeyFilter(List.of("db", "metrics.db"));
+        assertAll(
+            () -> assertTrue(filter.mayRetainUnder("db")),
+            () -> assertTrue(filter.mayRetainUnder("db.pool")),
+            () -> assertTrue(filter.mayRetainUnder("metrics")),
+            () -> assertTrue(filter.mayRetainUnder("metrics.db")),
+            () -> assertFalse(filter.mayRetainUnder("metrics.exporters")),
+            () -> assertFalse(filter.mayRetainUnder("dbx")),
+            () -> assertFalse(filter.mayRetainUnder("cache"))
+        );
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.github.sekelenao.smallyaml.test.internal.parsing.line.records.parser;
 
+import io.github.sekelenao.smallyaml.api.exception.ErrorKind;
 import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.EmptyLine;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.KeyLine;
@@ -11,10 +12,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -262,4 +265,47 @@ final class LineRecordParserTest {
 
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("Error positions")
+    final class ErrorPositions {
+
+        private static Stream<Arguments> faultyLines() {
+            return Stream.of(
+                Arguments.of("  \t  key: value", ErrorKind.INDENTATION, LineRecordParser.NOT_RELEVANT, 2),
+                Arguments.of("    key value", ErrorKind.KEY, 4, 4),
+                Arguments.of("  k y: value", ErrorKind.KEY, 2, 2),
+                Arguments.of("  key:value", ErrorKind.KEY, 2, 6),
+                Arguments.of("  -value", ErrorKind.VALUE, 2, 3),
+                Arguments.of("  - ", ErrorKind.VALUE, 2, 4),
+                Arguments.of("  -   \t", ErrorKind.VALUE, 2, 7),
+                Arguments.of("  -", ErrorKind.VALUE, 2, 3)
+            );
+        }
+
+        @ParameterizedTest
+        @MethodSource("faultyLines")
+        @DisplayName("Faulty part is located at its first character")
+        void faultyPartIsLocatedAtItsFirstCharacter(String rawLine, ErrorKind kind, int depth, int column) {
+            var exception = assertThrows(ParsingException.class, () -> parser.parse(rawLine));
+            assertAll(
+                () -> assertEquals(kind, exception.kind()),
+                () -> assertEquals(depth, parser.lastDepth()),
+                () -> assertEquals(column, parser.lastColumn())
+            );
+        }
+
+        @Test
+        @DisplayName("Parsed line is located at its first character")
+        void parsedLineIsLocatedAtItsFirstCharacter() {
+            parser.parse("    key:   value");
+            assertAll(
+                () -> assertEquals(4, parser.lastDepth()),
+                () -> assertEquals(4, parser.lastColumn())
+            );
+            parser.parse("  # Comment");
+            assertEquals(LineRecordParser.NOT_RELEVANT, parser.lastDepth());
+        }
+
+    }
+
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -19,7 +21,68 @@ final class KeyParserTest {
     @Test
     @DisplayName("Assertions")
     void assertions() {
-        assertThrows(NullPointerException.class, () -> parser.parse(null));
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> parser.parse(null)),
+            () -> assertThrows(NullPointerException.class, () -> parser.parse(null, 0, 0)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("key:", -1, 4)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("key:", 2, 1)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("key:", 0, 5))
+        );
+    }
+
+    @Test
+    @DisplayName("Key parsing on a range of a line")
+    void keyParsingOnARangeOfALine() {
+        var line = "  \tone.Two.three:  value";
+        assertAll(
+            () -> assertEquals("one.two.three", parser.parse(line, 0, 17)),
+            () -> assertEquals("two.three", parser.parse(line, 7, 17)),
+            () -> assertEquals("three", parser.parse(line, 11, 18)),
+            () -> ExceptionsTester.assertIsThrownAndContains(
+                ParsingException.class,
+                () -> parser.parse(line, 6, 17),
+                "empty key part for: '.Two.three:'"
+            ),
+            () -> ExceptionsTester.assertIsThrownAndContains(
+                ParsingException.class,
+                () -> parser.parse(line, 0, 16),
+                "missing colon for: '  \tone.Two.three'"
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("Every Latin-1 character is classified like with Character::isLetterOrDigit")
+    void everyLatin1CharacterIsClassified() {
+        for (char character = '!'; character < 256; character++) {
+            var rawKey = "a" + character + "a:";
+            if (Character.isLetterOrDigit(character) || character == '.' || character == '-' || character == '_') {
+                assertEquals(rawKey.substring(0, 3).toLowerCase(Locale.ROOT), parser.parse(rawKey));
+            } else {
+                ExceptionsTester.assertIsThrownAndContains(ParsingException.class, () -> parser.parse(rawKey), "forbidden character");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Characters outside of Latin-1 are classified with Character::isLetterOrDigit")
+    void nonLatin1CharactersAreClassified() {
+        assertAll(
+            () -> assertEquals("ключ.名前", parser.parse("КЛЮЧ.名前:")),
+            () -> ExceptionsTester.assertIsThrownAndContains(ParsingException.class, () -> parser.parse("key\u00A0part:"), "forbidden character"),
+            () -> ExceptionsTester.assertIsThrownAndContains(ParsingException.class, () -> parser.parse("key€:"), "forbidden character")
+        );
+    }
+
+    @Test
+    @DisplayName("Key parsing can continue after a failure")
+    void keyParsingCanContinueAfterAFailure() {
+        assertThrows(ParsingException.class, () -> parser.parse("key-.part:"));
+        ExceptionsTester.assertIsThrownAndContains(
+            ParsingException.class,
+            () -> parser.parse("-key:"),
+            "key start with special character"
+        );
     }
 
     @ParameterizedTest(name = "{0}")
@@ -1,12 +1,15 @@
 package io.github.sekelenao.smallyaml.test.internal.parsing.line.records.parser.string;
 
+import io.github.sekelenao.smallyaml.api.exception.parsing.ParsingException;
 import io.github.sekelenao.smallyaml.internal.parsing.line.records.parser.string.ValueParser;
+import io.github.sekelenao.smallyaml.test.util.ExceptionsTester;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -17,7 +20,47 @@ final class ValueParserTest {
     @Test
     @DisplayName("Assertions")
     void assertions() {
-        assertThrows(NullPointerException.class, () -> parser.parse(null));
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> parser.parse(null)),
+            () -> assertThrows(NullPointerException.class, () -> parser.parse(null, 0, 0)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("value", -1, 5)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("value", 3, 2)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("value", 0, 6))
+        );
+    }
+
+    @Test
+    @DisplayName("Value parsing on a range of a line")
+    void valueParsingOnARangeOfALine() {
+        var line = "key:  \" quoted \"  \t";
+        assertAll(
+            () -> assertEquals(" quoted ", parser.parse(line, 4, line.length())),
+            () -> assertEquals("\" quoted", parser.parse(line, 4, 14)),
+            () -> assertEquals("quoted", parser.parse(line, 8, 14)),
+            () -> assertEquals("\"", parser.parse(line, 6, 7)),
+            () -> ExceptionsTester.assertIsThrownAndContains(
+                ParsingException.class,
+                () -> parser.parse(line, 4, 6),
+                "empty value for: '  '"
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("Value validation on a range of a line")
+    void valueValidationOnARangeOfALine() {
+        var line = "key:  \" quoted \"  \t";
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> parser.validate(null, 0, 0)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> parser.validate(line, 3, 2)),
+            () -> assertDoesNotThrow(() -> parser.validate(line, 4, line.length())),
+            () -> assertDoesNotThrow(() -> parser.validate(line, 6, 7)),
+            () -> ExceptionsTester.assertIsThrownAndContains(
+                ParsingException.class,
+                () -> parser.validate(line, 4, 6),
+                "empty value for: '  '"
+            )
+        );
     }
 
     @ParameterizedTest(name = "{0}")
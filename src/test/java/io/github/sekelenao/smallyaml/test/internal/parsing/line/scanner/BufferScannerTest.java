@@ -0,0 +1,138 @@
+package io.github.sekelenao.smallyaml.test.internal.parsing.line.scanner;
+
+import io.github.sekelenao.smallyaml.internal.parsing.line.scanner.BufferScanner;
+import io.github.sekelenao.smallyaml.internal.parsing.line.scanner.ScalarBufferScanner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+final class BufferScannerTest {
+
+    private static final int BUFFER_SIZE = 200;
+
+    static Stream<BufferScanner> scanners() {
+        return Stream.concat(Stream.of(new ScalarBufferScanner()), BufferScanner.vectorized().stream());
+    }
+
+    private static byte[] bytesWith(int index, byte value) {
+        var bytes = new byte[BUFFER_SIZE];
+        Arrays.fill(bytes, (byte) 'a');
+        bytes[index] = value;
+        return bytes;
+    }
+
+    private static ByteBuffer bufferWith(int index, byte value, ByteOrder order) {
+        return ByteBuffer.wrap(bytesWith(index, value)).order(order);
+    }
+
+    private static char[] charactersWith(int index, char value) {
+        var characters = new char[BUFFER_SIZE];
+        Arrays.fill(characters, 'é');
+        characters[index] = value;
+        return characters;
+    }
+
+    @Test
+    @DisplayName("Best scanner is always available")
+    void bestScanner() {
+        assertNotNull(BufferScanner.best());
+    }
+
+    @Test
+    @DisplayName("Best scanner is the scalar one without the vector module")
+    void bestScannerWithoutTheVectorModule() {
+        assumeTrue(ModuleLayer.boot().findModule(BufferScanner.VECTOR_MODULE_NAME).isEmpty(), "The vector module is available");
+        assertAll(
+            () -> assertTrue(BufferScanner.vectorized().isEmpty()),
+            () -> assertInstanceOf(ScalarBufferScanner.class, BufferScanner.best())
+        );
+    }
+
+    /*
+     * The vector profile compiles the vectorized scanner, adds the vector module and sets this property.
+     */
+    @Test
+    @DisplayName("Vectorized scanner is available with the vector profile")
+    void vectorizedScannerWithTheVectorProfile() {
+        assumeTrue(Boolean.getBoolean("smallyaml.test.vector"), "The vector profile is not active");
+        assertTrue(BufferScanner.vectorized().isPresent());
+    }
+
+    @ParameterizedTest
+    @MethodSource("scanners")
+    @DisplayName("Line breaks are found at every position")
+    void lineBreaksAtEveryPosition(BufferScanner scanner) {
+        assertAll(IntStream.range(0, BUFFER_SIZE).boxed().flatMap(index -> Stream.of(
+            () -> assertEquals(index, scanner.indexOfLineBreak(bytesWith(index, (byte) '\n'), 0, BUFFER_SIZE)),
+            () -> assertEquals(index, scanner.indexOfLineBreak(bytesWith(index, (byte) '\r'), 0, BUFFER_SIZE)),
+            () -> assertEquals(-1, scanner.indexOfLineBreak(bytesWith(index, (byte) 0xC3), 0, BUFFER_SIZE)),
+            () -> assertEquals(index, scanner.indexOfLineBreakOrNonAscii(bytesWith(index, (byte) '\n'), 0, BUFFER_SIZE)),
+            () -> assertEquals(index, scanner.indexOfLineBreakOrNonAscii(bytesWith(index, (byte) '\r'), 0, BUFFER_SIZE)),
+            () -> assertEquals(index, scanner.indexOfLineBreakOrNonAscii(bytesWith(index, (byte) 0xC3), 0, BUFFER_SIZE)),
+            () -> assertEquals(index, scanner.indexOfLineBreak(charactersWith(index, '\n'), 0, BUFFER_SIZE)),
+            () -> assertEquals(index, scanner.indexOfLineBreak(charactersWith(index, '\r'), 0, BUFFER_SIZE)),
+            () -> assertEquals(-1, scanner.indexOfLineBreak(charactersWith(index, '਍'), 0, BUFFER_SIZE))
+        )));
+    }
+
+    @ParameterizedTest
+    @MethodSource("scanners")
+    @DisplayName("Line breaks are found at every position of byte buffers")
+    void lineBreaksAtEveryPositionOfByteBuffers(BufferScanner scanner) {
+        assertAll(Stream.of(ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN).flatMap(order ->
+            IntStream.range(0, BUFFER_SIZE).boxed().flatMap(index -> Stream.of(
+                () -> assertEquals(index, scanner.indexOfLineBreak(bufferWith(index, (byte) '\n', order), 0, BUFFER_SIZE)),
+                () -> assertEquals(index, scanner.indexOfLineBreak(bufferWith(index, (byte) '\r', order), 0, BUFFER_SIZE)),
+                () -> assertEquals(-1, scanner.indexOfLineBreak(bufferWith(index, (byte) 0xC3, order), 0, BUFFER_SIZE)),
+                () -> assertEquals(-1, scanner.indexOfLineBreak(bufferWith(index, (byte) 0x8A, order), 0, BUFFER_SIZE)),
+                () -> assertEquals(index, scanner.indexOfLineBreakOrNonAscii(bufferWith(index, (byte) '\n', order), 0, BUFFER_SIZE)),
+                () -> assertEquals(index, scanner.indexOfLineBreakOrNonAscii(bufferWith(index, (byte) '\r', order), 0, BUFFER_SIZE)),
+                () -> assertEquals(index, scanner.indexOfLineBreakOrNonAscii(bufferWith(index, (byte) 0xC3, order), 0, BUFFER_SIZE))
+            ))
+        ));
+    }
+
+    @ParameterizedTest
+    @MethodSource("scanners")
+    @DisplayName("Only the given range is scanned")
+    void onlyTheRangeIsScanned(BufferScanner scanner) {
+        var bytes = bytesWith(70, (byte) '\n');
+        bytes[3] = '\r';
+        var characters = charactersWith(70, '\n');
+        characters[3] = '\r';
+        assertAll(
+            () -> assertEquals(3, scanner.indexOfLineBreak(bytes, 0, BUFFER_SIZE)),
+            () -> assertEquals(70, scanner.indexOfLineBreak(bytes, 4, BUFFER_SIZE)),
+            () -> assertEquals(-1, scanner.indexOfLineBreak(bytes, 4, 70)),
+            () -> assertEquals(-1, scanner.indexOfLineBreak(bytes, 71, BUFFER_SIZE)),
+            () -> assertEquals(-1, scanner.indexOfLineBreak(bytes, 10, 10)),
+            () -> assertEquals(70, scanner.indexOfLineBreakOrNonAscii(bytes, 4, 71)),
+            () -> assertEquals(-1, scanner.indexOfLineBreakOrNonAscii(bytes, 4, 70)),
+            () -> assertEquals(3, scanner.indexOfLineBreak(ByteBuffer.wrap(bytes), 0, BUFFER_SIZE)),
+            () -> assertEquals(70, scanner.indexOfLineBreak(ByteBuffer.wrap(bytes), 4, BUFFER_SIZE)),
+            () -> assertEquals(-1, scanner.indexOfLineBreak(ByteBuffer.wrap(bytes), 4, 70)),
+            () -> assertEquals(-1, scanner.indexOfLineBreak(ByteBuffer.wrap(bytes), 71, BUFFER_SIZE)),
+            () -> assertEquals(70, scanner.indexOfLineBreakOrNonAscii(ByteBuffer.wrap(bytes), 4, 71)),
+            () -> assertEquals(-1, scanner.indexOfLineBreakOrNonAscii(ByteBuffer.wrap(bytes), 4, 70)),
+            () -> assertEquals(3, scanner.indexOfLineBreak(characters, 0, BUFFER_SIZE)),
+            () -> assertEquals(70, scanner.indexOfLineBreak(characters, 4, BUFFER_SIZE)),
+            () -> assertEquals(-1, scanner.indexOfLineBreak(characters, 4, 70)),
+            () -> assertEquals(-1, scanner.indexOfLineBreak(characters, 71, BUFFER_SIZE))
+        );
+    }
+
+}
@@ -33,4 +33,32 @@ final class AssertionsTest {
         assertDoesNotThrow(() -> Assertions.isPositiveOrZero(value));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {-100, -1, 0})
+    @DisplayName("Strictly positive wrong input")
+    void strictlyPositive(int value) {
+        assertThrows(IllegalArgumentException.class, () -> Assertions.isStrictlyPositive(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    @DisplayName("Strictly positive good input")
+    void strictlyPositiveGood(int value) {
+        assertDoesNotThrow(() -> Assertions.isStrictlyPositive(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {Long.MIN_VALUE, -1L, 0L})
+    @DisplayName("Strictly positive long wrong input")
+    void strictlyPositiveLong(long value) {
+        assertThrows(IllegalArgumentException.class, () -> Assertions.isStrictlyPositive(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, Long.MAX_VALUE})
+    @DisplayName("Strictly positive long good input")
+    void strictlyPositiveLongGood(long value) {
+        assertDoesNotThrow(() -> Assertions.isStrictlyPositive(value));
+    }
+
 }
@@ -0,0 +1,165 @@
+package io.github.sekelenao.smallyaml.test.util.document.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Random;
+
+/*
+ * Generates valid SmallYAML documents from a seed. The same seed and shape always produce the same document,
+ * and the document is written line by line, so sizes from a few bytes up to several gigabytes are possible.
+ */
+public final class DocumentGenerator {
+
+    private static final int INDENTATION = 4;
+
+    private static final double LIST_RATIO = 0.2;
+
+    private static final double QUOTED_VALUE_RATIO = 0.25;
+
+    private static final String VALUE_ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-_./";
+
+    public record Shape(
+        int amountOfProperties, int maximumDepth, int listLength,
+        int valueLength, double commentRatio, double blankLineRatio
+    ) {
+
+        public Shape {
+            if (amountOfProperties < 0 || maximumDepth < 1 || listLength < 1 || valueLength < 1) {
+                throw new IllegalArgumentException("Invalid shape: " + amountOfProperties + ", " + maximumDepth + ", "
+                    + listLength + ", " + valueLength);
+            }
+            if (commentRatio < 0 || blankLineRatio < 0 || commentRatio + blankLineRatio >= 1) {
+                throw new IllegalArgumentException("Invalid ratios: " + commentRatio + ", " + blankLineRatio);
+            }
+        }
+
+        public static Shape withProperties(int amountOfProperties) {
+            return new Shape(amountOfProperties, 6, 8, 24, 0.1, 0.05);
+        }
+
+    }
+
+    public record Summary(int singleValueProperties, int multipleValuesProperties, long lines) {}
+
+    private final long seed;
+
+    private final Shape shape;
+
+    public DocumentGenerator(long seed, Shape shape) {
+        this.seed = seed;
+        this.shape = Objects.requireNonNull(shape);
+    }
+
+    private final class Writer {
+
+        private final Random random = new Random(seed);
+
+        private final Appendable output;
+
+        private int currentDepth;
+
+        private int nextKeyIndex;
+
+        private int singleValueProperties;
+
+        private int multipleValuesProperties;
+
+        private long lines;
+
+        private Writer(Appendable output) {
+            this.output = output;
+        }
+
+        private void writeLine(int depth, CharSequence content) throws IOException {
+            output.append(" ".repeat(depth * INDENTATION)).append(content).append('\n');
+            lines++;
+        }
+
+        private void writeNoise(int depth) throws IOException {
+            var draw = random.nextDouble();
+            if (draw < shape.commentRatio()) {
+                writeLine(depth, "# Comment " + random.nextInt());
+            } else if (draw < shape.commentRatio() + shape.blankLineRatio()) {
+                writeLine(0, "");
+            }
+        }
+
+        private String nextKey() {
+            return "key-" + nextKeyIndex++;
+        }
+
+        private String nextValue() {
+            var value = new StringBuilder(shape.valueLength() + 2);
+            var isQuoted = random.nextDouble() < QUOTED_VALUE_RATIO;
+            if (isQuoted) {
+                value.append('"');
+            }
+            for (int i = 0; i < shape.valueLength(); i++) {
+                value.append(VALUE_ALPHABET.charAt(random.nextInt(VALUE_ALPHABET.length())));
+            }
+            if (isQuoted) {
+                value.setCharAt(1 + random.nextInt(shape.valueLength()), ' ');
+                value.append('"');
+            }
+            return value.toString();
+        }
+
+        private void writeProperty() throws IOException {
+            var depth = random.nextInt(shape.maximumDepth());
+            if (depth > currentDepth) {
+                while (currentDepth < depth) {
+                    writeNoise(currentDepth);
+                    writeLine(currentDepth++, nextKey() + ":");
+                }
+            } else {
+                currentDepth = depth;
+            }
+            writeNoise(depth);
+            if (random.nextDouble() < LIST_RATIO) {
+                writeLine(depth, nextKey() + ":");
+                for (int i = 0; i < shape.listLength(); i++) {
+                    writeLine(depth + 1, "- " + nextValue());
+                }
+                multipleValuesProperties++;
+            } else {
+                writeLine(depth, nextKey() + ": " + nextValue());
+                singleValueProperties++;
+            }
+        }
+
+        private Summary write() throws IOException {
+            for (int i = 0; i < shape.amountOfProperties(); i++) {
+                writeProperty();
+            }
+            return new Summary(singleValueProperties, multipleValuesProperties, lines);
+        }
+
+    }
+
+    public Summary writeTo(Appendable output) throws IOException {
+        Objects.requireNonNull(output);
+        return new Writer(output).write();
+    }
+
+    public Summary writeTo(Path path) throws IOException {
+        Objects.requireNonNull(path);
+        try (var writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            return writeTo(writer);
+        }
+    }
+
+    public String generate() {
+        var builder = new StringBuilder();
+        try {
+            writeTo(builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,28 @@
+package io.github.sekelenao.smallyaml.test.util.document.generator;
+
+import org.junit.jupiter.api.Named;
+
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/*
+ * Seeded generators of mid-sized documents, with deep nesting, short lists and many comments and blank lines,
+ * shared by the tests that check a way of parsing against PermissiveDocument::from.
+ */
+public final class DocumentGenerators {
+
+    public static final String SEEDED = "io.github.sekelenao.smallyaml.test.util.document.generator.DocumentGenerators#seeded";
+
+    public static final DocumentGenerator.Shape SHAPE = new DocumentGenerator.Shape(2_000, 12, 5, 16, 0.2, 0.2);
+
+    private DocumentGenerators(){
+        throw new AssertionError("You cannot instantiate this class");
+    }
+
+    @SuppressWarnings("unused")
+    public static Stream<Named<DocumentGenerator>> seeded() {
+        return LongStream.of(0, 1, 42, 2025)
+            .mapToObj(seed -> Named.of("seed " + seed, new DocumentGenerator(seed, SHAPE)));
+    }
+
+}
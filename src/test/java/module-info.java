@@ -2,4 +2,5 @@ open module SmallYAML.test {
     requires SmallYAML;
     requires SkCsv;
     requires org.junit.jupiter;
+    requires jmh.core;
 }
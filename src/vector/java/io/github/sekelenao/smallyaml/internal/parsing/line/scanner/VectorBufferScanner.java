@@ -0,0 +1,87 @@
+package io.github.sekelenao.smallyaml.internal.parsing.line.scanner;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Compares a whole vector of elements at once, 32 bytes with AVX2 or 64 bytes with AVX-512, and finishes
+ * the elements that do not fill a vector with the scalar scanner. Only compiled by the vector profile, and only
+ * created through BufferScanner::vectorized, which makes the vector module readable first.
+ */
+public final class VectorBufferScanner implements BufferScanner {
+
+    private static final int MINIMUM_VECTOR_BIT_SIZE = 128;
+
+    private static final VectorSpecies<Byte> BYTE_SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Short> CHAR_SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    private final ScalarBufferScanner tailScanner = new ScalarBufferScanner();
+
+    /*
+     * Without hardware vectors, the Vector API falls back to a much slower Java implementation.
+     */
+    public static boolean isSupported() {
+        return BYTE_SPECIES.vectorBitSize() >= MINIMUM_VECTOR_BIT_SIZE;
+    }
+
+    @Override
+    public int indexOfLineBreak(byte[] bytes, int from, int to) {
+        var index = from;
+        for (var bound = from + BYTE_SPECIES.loopBound(to - from); index < bound; index += BYTE_SPECIES.length()) {
+            var vector = ByteVector.fromArray(BYTE_SPECIES, bytes, index);
+            var matches = vector.eq((byte) '\n').or(vector.eq((byte) '\r'));
+            if(matches.anyTrue()){
+                return index + matches.firstTrue();
+            }
+        }
+        return tailScanner.indexOfLineBreak(bytes, index, to);
+    }
+
+    @Override
+    public int indexOfLineBreakOrNonAscii(byte[] bytes, int from, int to) {
+        var index = from;
+        for (var bound = from + BYTE_SPECIES.loopBound(to - from); index < bound; index += BYTE_SPECIES.length()) {
+            var vector = ByteVector.fromArray(BYTE_SPECIES, bytes, index);
+            var matches = vector.eq((byte) '\n')
+                .or(vector.eq((byte) '\r'))
+                .or(vector.compare(VectorOperators.LT, (byte) 0));
+            if(matches.anyTrue()){
+                return index + matches.firstTrue();
+            }
+        }
+        return tailScanner.indexOfLineBreakOrNonAscii(bytes, index, to);
+    }
+
+    @Override
+    public int indexOfLineBreak(char[] characters, int from, int to) {
+        var index = from;
+        for (var bound = from + CHAR_SPECIES.loopBound(to - from); index < bound; index += CHAR_SPECIES.length()) {
+            var vector = ShortVector.fromCharArray(CHAR_SPECIES, characters, index);
+            var matches = vector.eq((short) '\n').or(vector.eq((short) '\r'));
+            if(matches.anyTrue()){
+                return index + matches.firstTrue();
+            }
+        }
+        return tailScanner.indexOfLineBreak(characters, index, to);
+    }
+
+    /*
+     * The Vector API only loads byte buffers through memory segments, which are a preview API in Java 21, so the
+     * mapped files are scanned by the scalar scanner.
+     */
+    @Override
+    public int indexOfLineBreak(ByteBuffer bytes, int from, int to) {
+        return tailScanner.indexOfLineBreak(bytes, from, to);
+    }
+
+    @Override
+    public int indexOfLineBreakOrNonAscii(ByteBuffer bytes, int from, int to) {
+        return tailScanner.indexOfLineBreakOrNonAscii(bytes, from, to);
+    }
+
+}